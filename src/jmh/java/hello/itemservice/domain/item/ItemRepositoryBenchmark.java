@@ -0,0 +1,66 @@
+package hello.itemservice.domain.item;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ItemRepository save / findById / findAll / findAfter (저장소 종류, 상품 수 별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemRepositoryBenchmark {
+
+    @Param({"concurrent", "primitive"})
+    String store;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    ItemRepository itemRepository;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        itemRepository = new ItemRepository("primitive".equals(store) ? new PrimitiveItemStore(size) : new ConcurrentItemStore());
+        for (int i = 0; i < size; i++) {
+            itemRepository.save(new Item("item" + i, 1000 + i % 1000, i % 100));
+        }
+    }
+
+    @Benchmark
+    public Item save() {
+        return itemRepository.save(new Item("itemA", 10000, 10));
+    }
+
+    @Benchmark
+    public Item findById() {
+        return itemRepository.findById(ThreadLocalRandom.current().nextLong(1, size + 1));
+    }
+
+    @Benchmark
+    public List<Item> findAll() {
+        return itemRepository.findAll();
+    }
+
+    @Benchmark
+    public ItemPage findAfter() {
+        return itemRepository.findAfter(ThreadLocalRandom.current().nextLong(0, size), ItemRepository.DEFAULT_PAGE_SIZE);
+    }
+}
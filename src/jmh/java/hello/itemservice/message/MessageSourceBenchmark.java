@@ -0,0 +1,89 @@
+package hello.itemservice.message;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 조회 : ResourceBundleMessageSource vs CachingMessageSource
+ * - range.item.price : 코드 목록의 첫 번째에서 찾는 경우
+ * - NotBlank : 마지막 코드에서 찾고, 필드명 인자도 다시 조회하는 경우
+ * - totalPriceMin : ObjectError
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageSourceBenchmark {
+
+    MessageSource bundleMessageSource;
+    MessageSource cachingMessageSource;
+
+    FieldError rangeError;
+    FieldError notBlankError;
+    ObjectError totalPriceMinError;
+
+    @Setup
+    public void setup() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("messages", "errors");
+        messageSource.setDefaultEncoding("UTF-8");
+        bundleMessageSource = messageSource;
+        cachingMessageSource = new CachingMessageSource(messageSource, 10000);
+
+        rangeError = new FieldError("item", "price", 10, false,
+                new String[]{"range.item.price", "range.price", "range.java.lang.Integer", "range"}, new Object[]{1000, 1000000}, null);
+        DefaultMessageSourceResolvable itemName = new DefaultMessageSourceResolvable(new String[]{"item.itemName", "itemName"}, "itemName");
+        notBlankError = new FieldError("item", "itemName", " ", false,
+                new String[]{"NotBlank.item.itemName", "NotBlank.itemName", "NotBlank.java.lang.String", "NotBlank"},
+                new Object[]{itemName}, "공백일 수 없습니다");
+        totalPriceMinError = new ObjectError("item", new String[]{"totalPriceMin.item", "totalPriceMin"}, new Object[]{10000, 1000}, null);
+    }
+
+    @Benchmark
+    public String bundleRange() {
+        return bundleMessageSource.getMessage(rangeError, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String bundleNotBlank() {
+        return bundleMessageSource.getMessage(notBlankError, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String bundleTotalPriceMin() {
+        return bundleMessageSource.getMessage(totalPriceMinError, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String cachingRange() {
+        return cachingMessageSource.getMessage(rangeError, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String cachingNotBlank() {
+        return cachingMessageSource.getMessage(notBlankError, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String cachingTotalPriceMin() {
+        return cachingMessageSource.getMessage(totalPriceMinError, Locale.KOREA);
+    }
+}
@@ -0,0 +1,115 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.domain.rule.FieldRuleValidatorFactoryBean;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate Validator (스프링 LocalValidatorFactoryBean 경유)
+ * - Item : 제약 조건이 없는 경우 (메타데이터 탐색 비용만)
+ * - ItemSaveForm : 기본 그룹
+ * - GroupedItem : SaveCheck / UpdateCheck 그룹
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanValidationBenchmark {
+
+    LocalValidatorFactoryBean validator;
+
+    Item item;
+    ItemSaveForm validForm;
+    ItemSaveForm invalidForm;
+    GroupedItem validGroupedItem;
+    GroupedItem invalidGroupedItem;
+
+    @Setup
+    public void setup() {
+        validator = new FieldRuleValidatorFactoryBean(); // 애플리케이션과 같은 기본 Validator (ValidationConfig)
+        validator.afterPropertiesSet();
+
+        item = new Item("itemA", 10000, 10);
+        validForm = new ItemSaveForm();
+        validForm.setItemName("itemA");
+        validForm.setPrice(10000);
+        validForm.setQuantity(10);
+        invalidForm = new ItemSaveForm();
+        invalidForm.setItemName(" ");
+        invalidForm.setPrice(10);
+        invalidForm.setQuantity(10000);
+        validGroupedItem = GroupedItem.of(1L, "itemA", 10000, 10);
+        invalidGroupedItem = GroupedItem.of(null, " ", 10, 10000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validator.close();
+    }
+
+    @Benchmark
+    public BindingResult itemNoConstraints() {
+        return validate(item);
+    }
+
+    @Benchmark
+    public BindingResult saveFormValid() {
+        return validate(validForm);
+    }
+
+    @Benchmark
+    public BindingResult saveFormInvalid() {
+        return validate(invalidForm);
+    }
+
+    @Benchmark
+    public BindingResult groupedItemDefaultGroup() {
+        return validate(validGroupedItem);
+    }
+
+    @Benchmark
+    public BindingResult saveCheckValid() {
+        return validate(validGroupedItem, SaveCheck.class);
+    }
+
+    @Benchmark
+    public BindingResult saveCheckInvalid() {
+        return validate(invalidGroupedItem, SaveCheck.class);
+    }
+
+    @Benchmark
+    public BindingResult updateCheckValid() {
+        return validate(validGroupedItem, UpdateCheck.class);
+    }
+
+    @Benchmark
+    public BindingResult updateCheckInvalid() {
+        return validate(invalidGroupedItem, UpdateCheck.class);
+    }
+
+    private BindingResult validate(Object target, Object... groups) {
+        BindingResult bindingResult = new BeanPropertyBindingResult(target, "item");
+        validator.validate(target, bindingResult, groups);
+        return bindingResult;
+    }
+}
@@ -0,0 +1,37 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.domain.item.UpdateCheck;
+import lombok.Data;
+import org.hibernate.validator.constraints.Range;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+/**
+ * groups 벤치마크용 - Item 에서 주석 처리된 groups 제약 조건을 그대로 붙인 클래스
+ */
+@Data
+public class GroupedItem {
+
+    @NotNull(groups = UpdateCheck.class)
+    private Long id;
+    @NotBlank(groups = {SaveCheck.class, UpdateCheck.class})
+    private String itemName;
+    @NotNull(groups = {SaveCheck.class, UpdateCheck.class})
+    @Range(min = 1000, max = 1000000, groups = {SaveCheck.class, UpdateCheck.class})
+    private Integer price;
+    @NotNull(groups = {SaveCheck.class, UpdateCheck.class})
+    @Max(value = 9999, groups = {SaveCheck.class})
+    private Integer quantity;
+
+    public static GroupedItem of(Long id, String itemName, Integer price, Integer quantity) {
+        GroupedItem item = new GroupedItem();
+        item.setId(id);
+        item.setItemName(itemName);
+        item.setPrice(price);
+        item.setQuantity(quantity);
+        return item;
+    }
+}
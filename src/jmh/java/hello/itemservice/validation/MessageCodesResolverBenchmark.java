@@ -0,0 +1,51 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.web.validation.message.CachingMessageCodesResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오류 코드 목록 생성 : DefaultMessageCodesResolver vs CachingMessageCodesResolver
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageCodesResolverBenchmark {
+
+    MessageCodesResolver defaultResolver = new DefaultMessageCodesResolver();
+    MessageCodesResolver cachingResolver = new CachingMessageCodesResolver(new DefaultMessageCodesResolver());
+
+    @Benchmark
+    public String[] defaultObject() {
+        return defaultResolver.resolveMessageCodes("totalPriceMin", "item");
+    }
+
+    @Benchmark
+    public String[] defaultField() {
+        return defaultResolver.resolveMessageCodes("range", "item", "price", Integer.class);
+    }
+
+    @Benchmark
+    public String[] cachingObject() {
+        return cachingResolver.resolveMessageCodes("totalPriceMin", "item");
+    }
+
+    @Benchmark
+    public String[] cachingField() {
+        return cachingResolver.resolveMessageCodes("range", "item", "price", Integer.class);
+    }
+}
@@ -0,0 +1,76 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.rule.CompositeRuleValidator;
+import hello.itemservice.domain.rule.ValidationRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 직접 만든 검증기 ItemValidator
+ *
+ * 할당량 확인 : ./gradlew jmh -Pjmh.includes=ItemValidatorBenchmark -Pjmh.args="-prof gc"
+ * validReusedErrors / compositeRuleValid 의 gc.alloc.rate.norm 은 0 B/op 이어야 한다. (검증 통과 시 할당 없음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemValidatorBenchmark {
+
+    ValidationRules validationRules = ValidationRules.defaults();
+    CompositeRuleValidator compositeRuleValidator = new CompositeRuleValidator(validationRules);
+    ItemValidator itemValidator = new ItemValidator(compositeRuleValidator, validationRules);
+
+    Item validItem = new Item("itemA", 10000, 10);
+    Item invalidItem = new Item(" ", 10, 10000);
+    Item totalPriceMinItem = new Item("itemA", 1000, 1);
+    // 통과하는 입력은 BindingResult 를 바꾸지 않으므로 재사용 -> 검증기 자체의 할당만 측정
+    BindingResult reusedErrors = new BeanPropertyBindingResult(validItem, "item");
+
+    @Benchmark
+    public BindingResult valid() {
+        return validate(validItem);
+    }
+
+    @Benchmark
+    public BindingResult validReusedErrors() {
+        itemValidator.validate(validItem, reusedErrors);
+        return reusedErrors;
+    }
+
+    @Benchmark
+    public BindingResult compositeRuleValid() {
+        compositeRuleValidator.validate(validItem, reusedErrors);
+        return reusedErrors;
+    }
+
+    @Benchmark
+    public BindingResult invalidFields() {
+        return validate(invalidItem);
+    }
+
+    @Benchmark
+    public BindingResult invalidTotalPrice() {
+        return validate(totalPriceMinItem);
+    }
+
+    private BindingResult validate(Item item) {
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        itemValidator.validate(item, bindingResult);
+        return bindingResult;
+    }
+}
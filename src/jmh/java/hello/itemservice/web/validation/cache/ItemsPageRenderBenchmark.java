@@ -0,0 +1,120 @@
+package hello.itemservice.web.validation.cache;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemPage;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.PrimitiveItemStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록 화면(100건 페이지) 렌더링 : th:each 로 행마다 렌더링 vs ItemRowCache 의 캐시된 행
+ * 카탈로그 전체를 커서로 돌면서 페이지를 렌더링하므로 catalogSize 만큼의 행이 캐시에 올라가 있다.
+ * - uncachedRows : 행 캐시 전 템플릿 (src/jmh/resources 의 itemsUncached.html)
+ * - cachedRows : 현재 템플릿 + 캐시된 행
+ *
+ * ./gradlew jmh -Pjmh.includes=ItemsPageRender
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemsPageRenderBenchmark {
+
+    static final int PAGE_SIZE = ItemRepository.MAX_PAGE_SIZE;
+
+    @Param({"10000", "100000"})
+    int catalogSize;
+
+    SpringTemplateEngine templateEngine;
+    ItemRepository itemRepository;
+    ItemRowCache itemRowCache;
+    MockServletContext servletContext = new MockServletContext();
+    Locale locale = Locale.KOREAN;
+
+    long cursor;
+
+    @Setup
+    public void setup() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("messages", "errors");
+        messageSource.setDefaultEncoding("UTF-8");
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.setTemplateEngineMessageSource(messageSource);
+
+        itemRepository = new ItemRepository(new PrimitiveItemStore(catalogSize));
+        for (int i = 0; i < catalogSize; i++) {
+            itemRepository.save(new Item("item" + i, 1000 + i % 1000000, i % 9999));
+        }
+        itemRowCache = new ItemRowCache(templateEngine, "/validation/v4/items", catalogSize);
+        itemRepository.addListener(itemRowCache);
+        // 전체 카탈로그의 행을 미리 캐시
+        Long after = null;
+        do {
+            ItemPage page = itemRepository.findAfter(after, PAGE_SIZE);
+            itemRowCache.render(page.getItems(), locale);
+            after = page.getNextCursor();
+        } while (after != null);
+    }
+
+    @Benchmark
+    public String uncachedRows() {
+        ItemPage page = nextPage();
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("items", page.getItems());
+        variables.put("page", page);
+        return render("validation/v4/itemsUncached", variables);
+    }
+
+    @Benchmark
+    public String cachedRows() {
+        ItemPage page = nextPage();
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("items", page.getItems());
+        variables.put("itemRows", itemRowCache.render(page.getItems(), locale));
+        variables.put("page", page);
+        return render("validation/v4/items", variables);
+    }
+
+    private ItemPage nextPage() {
+        ItemPage page = itemRepository.findAfter(cursor, PAGE_SIZE);
+        cursor = page.getNextCursor() == null ? 0L : page.getNextCursor();
+        return page;
+    }
+
+    private String render(String template, Map<String, Object> variables) {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/validation/v4/items");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        return templateEngine.process(template, new WebContext(request, response, servletContext, locale, variables));
+    }
+}
@@ -0,0 +1,91 @@
+package hello.itemservice.web.validation.plan;
+
+import hello.itemservice.domain.rule.FieldRuleValidatorFactoryBean;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ItemSaveForm 검증 : 기본 LocalValidatorFactoryBean vs PlannedValidator
+ *
+ * ./gradlew jmh -Pjmh.includes=ValidationPlanBenchmark -Pjmh.args="-prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationPlanBenchmark {
+
+    LocalValidatorFactoryBean validatorFactory;
+    PlannedValidator plannedValidator;
+
+    ItemSaveForm validForm;
+    ItemSaveForm invalidForm;
+
+    @Setup
+    public void setup() {
+        validatorFactory = new FieldRuleValidatorFactoryBean(); // 애플리케이션과 같은 기본 Validator (ValidationConfig)
+        validatorFactory.afterPropertiesSet();
+        plannedValidator = new PlannedValidator(validatorFactory);
+        plannedValidator.precompile(ItemSaveForm.class);
+
+        validForm = form("itemA", 10000, 10);
+        invalidForm = form(" ", 10, 10000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public BindingResult beanValidationValid() {
+        return validate(validatorFactory, validForm);
+    }
+
+    @Benchmark
+    public BindingResult plannedValid() {
+        return validate(plannedValidator, validForm);
+    }
+
+    @Benchmark
+    public BindingResult beanValidationInvalid() {
+        return validate(validatorFactory, invalidForm);
+    }
+
+    @Benchmark
+    public BindingResult plannedInvalid() {
+        return validate(plannedValidator, invalidForm);
+    }
+
+    private static BindingResult validate(Validator validator, ItemSaveForm form) {
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        validator.validate(form, bindingResult);
+        return bindingResult;
+    }
+
+    private static ItemSaveForm form(String itemName, Integer price, Integer quantity) {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(itemName);
+        form.setPrice(price);
+        form.setQuantity(quantity);
+        return form;
+    }
+}
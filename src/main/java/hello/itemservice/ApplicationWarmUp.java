@@ -0,0 +1,260 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.rule.CompositeRuleValidator;
+import hello.itemservice.web.validation.plan.PlannedValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import javax.servlet.ServletContext;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 직후 워밍업 (itemservice.warmup.enabled=false 로 끔)
+ *
+ * 배포 직후 첫 요청들이 느린 이유는 모두 첫 사용 시점에 만들어지는 것들 때문이다.
+ * - Bean Validation 메타데이터 / 검증 계획 / 복합 룰 바인딩 : 컨트롤러에서 검증하는 모든 모델 클래스
+ * - 메시지 번들 : 설정된 언어(itemservice.warmup.locales) 별로 모든 메시지를 한 번씩 조회
+ * - 템플릿 파싱 : 화면(String 뷰 이름을 반환하는 GET 핸들러)을 언어별로 한 번씩 자기 자신에게 요청
+ *
+ * ApplicationReadyEvent 리스너는 준비 상태(ReadinessState.ACCEPTING_TRAFFIC)로 바뀌기 전에 실행되므로
+ * 워밍업이 끝난 뒤에 트래픽을 받는다. (TestDataInit 으로 상품이 채워진 뒤이므로 상세/수정 화면도 요청할 수 있음)
+ */
+@Slf4j
+@Component
+public class ApplicationWarmUp {
+
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final LocalValidatorFactoryBean validatorFactory;
+    private final PlannedValidator plannedValidator;
+    private final CompositeRuleValidator compositeRuleValidator;
+    private final MessageSource messageSource;
+    private final MessageSourceProperties messageSourceProperties;
+    private final ItemRepository itemRepository;
+    private final ServletContext servletContext;
+    private final boolean enabled;
+    private final List<Locale> locales;
+
+    public ApplicationWarmUp(@Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+                             LocalValidatorFactoryBean validatorFactory,
+                             PlannedValidator plannedValidator,
+                             CompositeRuleValidator compositeRuleValidator,
+                             MessageSource messageSource,
+                             MessageSourceProperties messageSourceProperties,
+                             ItemRepository itemRepository,
+                             ServletContext servletContext,
+                             @Value("${itemservice.warmup.enabled:true}") boolean enabled,
+                             @Value("${itemservice.warmup.locales:ko,en}") List<Locale> locales) {
+        this.handlerMapping = handlerMapping;
+        this.validatorFactory = validatorFactory;
+        this.plannedValidator = plannedValidator;
+        this.compositeRuleValidator = compositeRuleValidator;
+        this.messageSource = messageSource;
+        this.messageSourceProperties = messageSourceProperties;
+        this.itemRepository = itemRepository;
+        this.servletContext = servletContext;
+        this.enabled = enabled;
+        this.locales = locales;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        int models = warmUpValidators();
+        int messages = warmUpMessages();
+        // 테스트 등 서버 없이 시작한 경우(local.server.port 없음)에는 템플릿 워밍업을 건너뜀
+        Integer port = event.getApplicationContext().getEnvironment().getProperty("local.server.port", Integer.class);
+        int pages = port == null ? 0 : warmUpTemplates(port);
+        log.info("warm-up finished models={} messages={} pages={} elapsed={}ms",
+                models, messages, pages, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * 컨트롤러에서 검증하는 모델 클래스 / 그룹별로 빈 객체를 한 번 검증
+     * 검증 메타데이터, 검증 계획, ConstraintValidator, 복합 룰 바인딩이 모두 이때 만들어진다.
+     *
+     * @return 워밍업한 (클래스, 그룹) 수
+     */
+    int warmUpValidators() {
+        long startNanos = System.nanoTime();
+        Map<Class<?>, Set<List<Class<?>>>> targets = validationTargets();
+        int count = 0;
+        for (Map.Entry<Class<?>, Set<List<Class<?>>>> entry : targets.entrySet()) {
+            Class<?> type = entry.getKey();
+            validatorFactory.getConstraintsForClass(type);
+            plannedValidator.precompile(type);
+            compositeRuleValidator.hasRules(type);
+            for (List<Class<?>> groups : entry.getValue()) {
+                try {
+                    Object target = BeanUtils.instantiateClass(type);
+                    plannedValidator.validate(target, new BeanPropertyBindingResult(target, "warmUp"), groups.toArray());
+                    count++;
+                } catch (RuntimeException e) {
+                    log.warn("validator warm-up failed type={} groups={}", type.getName(), groups, e);
+                }
+            }
+        }
+        log.info("validator warm-up types={} elapsed={}ms",
+                targets.keySet(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return count;
+    }
+
+    /**
+     * 핸들러 파라미터 중 이 애플리케이션의 모델(@ModelAttribute / @RequestBody) -> 검증 그룹 목록
+     * @Validated 가 없는 파라미터(비동기 핸들러)도 AsyncItemProcessor 에서 기본 그룹으로 검증하므로 포함한다.
+     */
+    Map<Class<?>, Set<List<Class<?>>>> validationTargets() {
+        String basePackage = ItemServiceApplication.class.getPackage().getName();
+        Map<Class<?>, Set<List<Class<?>>>> targets = new LinkedHashMap<>();
+        for (HandlerMethod handlerMethod : handlerMapping.getHandlerMethods().values()) {
+            for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+                Class<?> type = parameter.getParameterType();
+                if (!type.getName().startsWith(basePackage)
+                        || !(parameter.hasParameterAnnotation(ModelAttribute.class) || parameter.hasParameterAnnotation(RequestBody.class))) {
+                    continue;
+                }
+                Set<List<Class<?>>> groups = targets.computeIfAbsent(type, key -> new LinkedHashSet<>());
+                groups.add(Collections.emptyList()); // 기본 그룹
+                Validated validated = AnnotationUtils.getAnnotation(parameter.getParameter(), Validated.class);
+                if (validated != null && validated.value().length > 0) {
+                    groups.add(List.of(validated.value()));
+                }
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * 설정된 언어별로 메시지 번들(spring.messages.basename)의 모든 메시지를 한 번씩 조회
+     *
+     * @return 조회한 메시지 수
+     */
+    int warmUpMessages() {
+        long startNanos = System.nanoTime();
+        int count = 0;
+        String[] basenames = StringUtils.commaDelimitedListToStringArray(
+                StringUtils.trimAllWhitespace(messageSourceProperties.getBasename()));
+        for (Locale locale : locales) {
+            for (String basename : basenames) {
+                try {
+                    ResourceBundle bundle = ResourceBundle.getBundle(basename, locale);
+                    for (String code : bundle.keySet()) {
+                        messageSource.getMessage(code, null, code, locale);
+                        count++;
+                    }
+                } catch (MissingResourceException e) {
+                    log.warn("message bundle not found basename={} locale={}", basename, locale);
+                }
+            }
+        }
+        log.info("message warm-up locales={} messages={} elapsed={}ms",
+                locales, count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return count;
+    }
+
+    /**
+     * 화면(뷰 이름을 반환하는 GET 핸들러)을 언어별로 자기 자신에게 요청 - 템플릿 파싱과 MVC 경로 전체를 미리 태움
+     * {itemId} 는 첫 번째 상품 id 로 채우고, 그 밖의 경로 변수가 있는 화면은 건너뜀
+     *
+     * @return 성공(2xx)한 요청 수
+     */
+    int warmUpTemplates(int port) {
+        long startNanos = System.nanoTime();
+        List<Item> firstItem = itemRepository.findPage(0, 1);
+        String itemId = firstItem.isEmpty() ? null : String.valueOf(firstItem.get(0).getId());
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String baseUrl = "http://localhost:" + port + servletContext.getContextPath();
+        int count = 0;
+        for (String path : pagePaths(itemId)) {
+            for (Locale locale : locales) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .header(HttpHeaders.ACCEPT_LANGUAGE, locale.toLanguageTag())
+                        .timeout(Duration.ofSeconds(30))
+                        .GET()
+                        .build();
+                try {
+                    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (status / 100 == 2) {
+                        count++;
+                    } else {
+                        log.warn("template warm-up request failed path={} locale={} status={}", path, locale, status);
+                    }
+                } catch (IOException e) {
+                    log.warn("template warm-up request failed path={} locale={}", path, locale, e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return count;
+                }
+            }
+        }
+        log.info("template warm-up pages={} elapsed={}ms", count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return count;
+    }
+
+    Set<String> pagePaths(String itemId) {
+        Set<String> paths = new LinkedHashSet<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            RequestMappingInfo info = entry.getKey();
+            Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+            if (!methods.contains(RequestMethod.GET) || entry.getValue().getMethod().getReturnType() != String.class) {
+                continue;
+            }
+            for (String pattern : patterns(info)) {
+                String path = itemId == null ? pattern : pattern.replace("{itemId}", itemId);
+                if (!path.contains("{")) {
+                    paths.add(path);
+                }
+            }
+        }
+        return paths;
+    }
+
+    private static Set<String> patterns(RequestMappingInfo info) {
+        if (info.getPatternsCondition() != null) {
+            return info.getPatternsCondition().getPatterns();
+        }
+        return info.getPathPatternsCondition() == null ? Collections.emptySet() : info.getPathPatternsCondition().getPatternValues();
+    }
+}
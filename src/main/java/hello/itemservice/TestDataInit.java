@@ -3,23 +3,38 @@ package hello.itemservice;
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.annotation.PostConstruct;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class TestDataInit {
 
     private final ItemRepository itemRepository;
 
+    // 스냅샷 파일로 초기 데이터를 채울 때 사용 (ItemRepository.exportSnapshot 으로 만든 파일)
+    @Value("${itemservice.seed.file:}")
+    private String seedFile;
+
     /**
      * 테스트용 데이터 추가
+     * 영속화(itemservice.journal.enabled)로 복구된 상품이 있거나 스냅샷 파일(itemservice.seed.file)을 사용하면 추가하지 않음
      */
     @PostConstruct
     public void init() {
+        if (!itemRepository.findPage(0, 1).isEmpty()) {
+            return;
+        }
+        if (StringUtils.hasText(seedFile)) {
+            return; // 스냅샷 파일의 상품을 그대로 사용 (ItemStoreConfig)
+        }
         itemRepository.save(new Item("itemA", 10000, 10));
         itemRepository.save(new Item("itemB", 20000, 20));
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,84 @@
+package hello.itemservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+    @Value("${itemservice.async.executor:platform}")
+    private String executorType;
+    @Value("${itemservice.async.pool-size:64}")
+    private int poolSize;
+    @Value("${itemservice.async.timeout:30s}")
+    private Duration timeout;
+
+    /**
+     * 비동기 핸들러(CompletableFuture 반환)의 검증/저장을 실행하는 스레드
+     *
+     * itemservice.async.executor
+     * - platform (기본) : 고정 크기 스레드 풀 (itemservice.async.pool-size)
+     * - virtual : 작업마다 가상 스레드 (JDK 21 이상, 만들 수 없으면 platform 으로 대체)
+     *
+     * 저장소가 블로킹 I/O 를 하더라도 톰캣 워커 스레드는 바로 반환되므로 워커 풀이 고갈되지 않는다.
+     */
+    @Bean
+    public ExecutorService itemExecutorService() {
+        if ("virtual".equals(executorType)) {
+            ExecutorService virtualExecutor = newVirtualThreadPerTaskExecutor();
+            if (virtualExecutor != null) {
+                log.info("item async executor = virtual threads");
+                return virtualExecutor;
+            }
+            log.warn("virtual threads are not available on Java {} - using platform pool-size={}",
+                    System.getProperty("java.version"), poolSize);
+        }
+        return Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("item-async-"));
+    }
+
+    @Bean
+    public AsyncTaskExecutor itemTaskExecutor(ExecutorService itemExecutorService) {
+        return new TaskExecutorAdapter(itemExecutorService);
+    }
+
+    /**
+     * Callable / WebAsyncTask 도 같은 executor 에서 실행하고, 비동기 요청의 기본 제한 시간을 지정
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(itemTaskExecutor(itemExecutorService()));
+        configurer.setDefaultTimeout(timeout.toMillis());
+    }
+
+    /**
+     * Java 11 로 컴파일하므로 Executors.newVirtualThreadPerTaskExecutor() 는 리플렉션으로 호출
+     * 만들 수 없으면 null - 메서드가 없는 JDK 뿐 아니라 preview 기능이 꺼진 JDK 19/20
+     * (UnsupportedOperationException) 나 모듈 접근 제한 등 어떤 이유로 실패해도 기동은 계속되어야 함
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+            log.warn("cannot create virtual thread executor: {}", cause.toString());
+            return null;
+        }
+    }
+}
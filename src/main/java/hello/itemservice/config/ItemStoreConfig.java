@@ -0,0 +1,65 @@
+package hello.itemservice.config;
+
+import hello.itemservice.domain.item.ConcurrentItemStore;
+import hello.itemservice.domain.item.ItemStore;
+import hello.itemservice.domain.item.MeteredItemStore;
+import hello.itemservice.domain.item.PrimitiveItemStore;
+import hello.itemservice.domain.item.journal.JournalingItemStore;
+import hello.itemservice.domain.item.snapshot.MappedItemSnapshot;
+import hello.itemservice.domain.item.snapshot.SnapshotItemStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+@Configuration
+public class ItemStoreConfig {
+
+    @Value("${itemservice.store.type:concurrent}")
+    private String type;
+    @Value("${itemservice.store.initial-capacity:1024}")
+    private int initialCapacity;
+
+    @Value("${itemservice.journal.enabled:false}")
+    private boolean journalEnabled;
+    @Value("${itemservice.journal.dir:./data/journal}")
+    private String journalDir;
+    @Value("${itemservice.journal.fsync:true}")
+    private boolean journalFsync;
+    @Value("${itemservice.journal.snapshot-interval:5m}")
+    private Duration snapshotInterval;
+
+    // 스냅샷 파일로 초기 데이터를 채울 때 사용 (ItemRepository.exportSnapshot 으로 만든 파일)
+    @Value("${itemservice.seed.file:}")
+    private String seedFile;
+
+    /**
+     * itemservice.store.type
+     * - concurrent (기본) : ConcurrentSkipListMap 기반 (id 순서 유지 - 커서 페이지 조회에 필요)
+     * - primitive : long 키 + int[] 컬럼 기반, 수백만 건 이상의 카탈로그용
+     *
+     * itemservice.journal.enabled=true 이면 write-ahead log + 스냅샷으로 재시작 후에도 상품이 유지된다.
+     * itemservice.seed.file 이 있으면 그 스냅샷 파일을 매핑해서 바탕으로 쓰고, 바뀐 상품만 위 저장소에 보관한다.
+     * (시작할 때 상품을 복사하지 않음 - SnapshotItemStore)
+     * 로그를 쓰는 경우에는 로그와 스냅샷이 비어 있을 때 그 파일을 로그의 첫 스냅샷으로 복사해서 시작한다.
+     *
+     * 작업별 소요 시간과 상품 수는 MeteredItemStore 가 기록한다. (로그 기록 시간 포함)
+     */
+    @Bean
+    public ItemStore itemStore(MeterRegistry meterRegistry) throws IOException {
+        String storeType = "primitive".equals(type) ? "primitive" : "concurrent";
+        ItemStore store = "primitive".equals(type) ? new PrimitiveItemStore(initialCapacity) : new ConcurrentItemStore();
+        if (journalEnabled) {
+            store = new JournalingItemStore(store, Paths.get(journalDir), journalFsync, snapshotInterval,
+                    StringUtils.hasText(seedFile) ? Paths.get(seedFile) : null);
+        } else if (StringUtils.hasText(seedFile)) {
+            store = new SnapshotItemStore(MappedItemSnapshot.open(Paths.get(seedFile)), store);
+        }
+        return new MeteredItemStore(store, meterRegistry, storeType);
+    }
+}
@@ -0,0 +1,77 @@
+package hello.itemservice.config;
+
+import hello.itemservice.message.CachingMessageSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+@Configuration
+public class MessageConfig {
+
+    @Value("${itemservice.messages.cache-size:10000}")
+    private int cacheSize;
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.messages")
+    public MessageSourceProperties messageSourceProperties() {
+        return new MessageSourceProperties();
+    }
+
+    /**
+     * messageSource 빈을 직접 등록하면 스프링 부트의 자동 등록이 빠지므로
+     * spring.messages.* 설정은 부트(MessageSourceAutoConfiguration)와 같은 방식으로 적용한다.
+     *
+     * spring.messages.cache-duration 을 지정하면 (번들 파일 다시 읽기) 완성된 메시지는 캐시하지 않는다.
+     */
+    @Bean
+    public MessageSource messageSource(MessageSourceProperties properties) {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        if (StringUtils.hasText(properties.getBasename())) {
+            messageSource.setBasenames(StringUtils.commaDelimitedListToStringArray(
+                    StringUtils.trimAllWhitespace(properties.getBasename())));
+        }
+        if (properties.getEncoding() != null) {
+            messageSource.setDefaultEncoding(properties.getEncoding().name());
+        }
+        messageSource.setFallbackToSystemLocale(properties.isFallbackToSystemLocale());
+        messageSource.setAlwaysUseMessageFormat(properties.isAlwaysUseMessageFormat());
+        messageSource.setUseCodeAsDefaultMessage(properties.isUseCodeAsDefaultMessage());
+        Duration cacheDuration = properties.getCacheDuration();
+        if (cacheDuration != null) {
+            messageSource.setCacheMillis(cacheDuration.toMillis());
+            return messageSource;
+        }
+        return new CachingMessageSource(messageSource, cacheSize);
+    }
+
+    /**
+     * 메시지 캐시 적중 / 실패 수 (itemservice.messages.cache{result=hit|miss})
+     */
+    @Bean
+    public MeterBinder messageCacheMetrics(MessageSource messageSource) {
+        return registry -> {
+            if (!(messageSource instanceof CachingMessageSource)) {
+                return;
+            }
+            CachingMessageSource cachingMessageSource = (CachingMessageSource) messageSource;
+            FunctionCounter.builder("itemservice.messages.cache", cachingMessageSource, CachingMessageSource::getHitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("itemservice.messages.cache", cachingMessageSource, CachingMessageSource::getMissCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("itemservice.messages.cache.size", cachingMessageSource, CachingMessageSource::size)
+                    .register(registry);
+        };
+    }
+}
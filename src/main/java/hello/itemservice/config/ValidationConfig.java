@@ -0,0 +1,23 @@
+package hello.itemservice.config;
+
+import hello.itemservice.domain.rule.FieldRuleValidatorFactoryBean;
+import hello.itemservice.domain.rule.ValidationRules;
+import org.springframework.boot.validation.MessageInterpolatorFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ValidationConfig {
+
+    /**
+     * @FieldRule 오류 코드 / 인자를 규칙 표에서 만드는 기본 Validator
+     * javax.validation.Validator 빈을 직접 등록하면 스프링 부트의 defaultValidator 가 빠지므로
+     * 메시지 보간은 부트(ValidationAutoConfiguration)와 같은 방식으로 설정한다.
+     */
+    @Bean
+    public FieldRuleValidatorFactoryBean defaultValidator(ValidationRules validationRules) {
+        FieldRuleValidatorFactoryBean factoryBean = new FieldRuleValidatorFactoryBean(validationRules);
+        factoryBean.setMessageInterpolator(new MessageInterpolatorFactory().getObject());
+        return factoryBean;
+    }
+}
@@ -0,0 +1,112 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ConcurrentItemStore implements ItemStore {
+
+    // 여러 요청 스레드가 동시에 접근하므로 HashMap, long 대신 ConcurrentSkipListMap, AtomicLong 사용
+    // ConcurrentSkipListMap 은 락 없이 동작하면서 id 순서를 유지하므로 페이지 조회가 가능
+    private final ConcurrentNavigableMap<Long, Item> store = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    // ConcurrentSkipListMap.size() 는 전체를 세므로 개수는 따로 관리 (clearStore 와 동시에 저장하면 근사값)
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Item save(Item item) {
+        item.setId(sequence.incrementAndGet());
+        item.setVersion(0L);
+        store.put(item.getId(), item);
+        count.incrementAndGet();
+        return item;
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return store.get(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return new ArrayList<>(store.values());
+    }
+
+    @Override
+    public List<Item> findPage(int offset, int limit) {
+        List<Item> result = new ArrayList<>(limit);
+        Iterator<Item> iterator = store.values().iterator();
+        for (int i = 0; i < offset && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    @Override
+    public List<Item> findAfter(long afterId, int limit) {
+        List<Item> result = new ArrayList<>(limit);
+        Iterator<Item> iterator = store.tailMap(afterId, false).values().iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        // 저장된 Item 을 setter 로 하나씩 바꾸면 다른 스레드가 반쯤 바뀐 상태를 볼 수 있음
+        // -> 새 Item 을 만들어 한 번에 교체
+        store.computeIfPresent(itemId, (id, findItem) -> nextVersion(findItem, updateParam));
+    }
+
+    @Override
+    public boolean update(Long itemId, Item updateParam, long expectedVersion) {
+        // 읽은 Item 이 그대로일 때만 교체 (ConcurrentMap.replace) - 락 없이 동작하고 읽는 쪽은 막지 않음
+        while (true) {
+            Item findItem = store.get(itemId);
+            if (findItem == null || findItem.getVersion() != expectedVersion) {
+                return false;
+            }
+            if (store.replace(itemId, findItem, nextVersion(findItem, updateParam))) {
+                return true;
+            }
+            // 그 사이 다른 스레드가 교체함 -> 다시 읽으면 버전이 달라져 있음
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        store.clear();
+        count.set(0);
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    @Override
+    public void restore(Item item) {
+        if (item.getVersion() == null) {
+            item.setVersion(0L);
+        }
+        if (store.put(item.getId(), item) == null) {
+            count.incrementAndGet();
+        }
+        sequence.accumulateAndGet(item.getId(), Math::max);
+    }
+
+    private static Item nextVersion(Item findItem, Item updateParam) {
+        Item updatedItem = new Item(updateParam.getItemName(), updateParam.getPrice(), updateParam.getQuantity());
+        updatedItem.setId(findItem.getId());
+        updatedItem.setVersion(findItem.getVersion() + 1);
+        return updatedItem;
+    }
+}
@@ -1,16 +1,19 @@
 package hello.itemservice.domain.item;
 
+import hello.itemservice.domain.rule.CompositeRule;
 import lombok.Data;
 import org.hibernate.validator.constraints.Range;
-import org.hibernate.validator.constraints.ScriptAssert;
 
 import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
-// 필드가 아닌 오브젝트 관련 오류는 어떻게 처리 해야 할까 - @ScriptAssert() 이용
+import static hello.itemservice.domain.rule.CompositeRule.Operation.PRODUCT;
+
+// 필드가 아닌 오브젝트 관련 오류는 어떻게 처리 해야 할까 - @CompositeRule 이용 (CompositeRuleValidator 가 검사)
+// @ScriptAssert 는 요청마다 스크립트를 실행하고 int 곱셈이 넘칠 수 있어서 사용하지 않음
 @Data
-//@ScriptAssert(lang = "javascript", script = "_this.price * _this.quantity >= 10000")
+@CompositeRule(code = "totalPriceMin", operation = PRODUCT, fields = {"price", "quantity"})
 public class Item {
 
 //    @NotNull(groups = UpdateCheck.class) // 수정 요구사항으로 추가
@@ -23,6 +26,9 @@ public class Item {
 //    @NotNull(groups = {SaveCheck.class, UpdateCheck.class})
 //    @Max(value = 9999, groups = {SaveCheck.class})
     private Integer quantity;
+    // 낙관적 락 - 저장할 때 0, 수정될 때마다 1 증가 (저장소가 관리)
+    // 저장소는 저장된 Item 을 고치지 않고 새 Item 으로 교체하므로 같은 버전의 Item 은 내용도 같다.
+    private Long version;
 
     public Item() {
     }
@@ -0,0 +1,18 @@
+package hello.itemservice.domain.item;
+
+/**
+ * 상품 변경 알림 (ItemRepository.addListener)
+ * 저장소와 인덱스에 반영된 뒤, 변경한 요청 스레드에서 호출된다.
+ */
+public interface ItemChangeListener {
+
+    /**
+     * 상품이 저장/수정/복구됨 - 변경 후 상품
+     */
+    void itemChanged(Item item);
+
+    /**
+     * 모든 상품이 삭제됨
+     */
+    void itemsCleared();
+}
@@ -0,0 +1,23 @@
+package hello.itemservice.domain.item;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 방식 목록 조회 결과
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+@Getter
+public class ItemPage {
+
+    private final List<Item> items;
+    private final int size;
+    private final Long nextCursor;
+
+    public ItemPage(List<Item> items, int size, Long nextCursor) {
+        this.items = items;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -1,41 +1,392 @@
 package hello.itemservice.domain.item;
 
+import hello.itemservice.domain.item.snapshot.ItemSnapshotWriter;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Repository
 public class ItemRepository {
 
-    private static final Map<Long, Item> store = new HashMap<>(); //static
-    private static long sequence = 0L; //static
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ItemStore store;
+
+    // 보조 인덱스 - 저장/수정 시점에 함께 갱신
+    // 저장소에 이미 있던 상품은 처음 검색할 때 인덱스에 넣음 (시작할 때 전체 상품을 읽지 않도록)
+    private final SortedIndex<String> itemNameIndex = new SortedIndex<>();
+    private final SortedIndex<Integer> priceIndex = new SortedIndex<>();
+    private final SortedIndex<Integer> quantityIndex = new SortedIndex<>();
+    // 인덱스의 이전 값 제거 / 새 값 추가는 저장소 교체와 한 묶음이어야 하므로 id 별로 줄을 세움
+    // (줄을 세우지 않으면 동시 수정 시 나중 요청이 먼저 요청의 새 값을 못 보고 지워 인덱스에서 상품이 빠짐)
+    private final Object[] stripes = new Object[64];
+    private final Object indexLock = new Object();
+    private volatile boolean indexed;
+
+    // 카탈로그 버전 - 상품이 저장/수정될 때마다 1 증가 (목록 화면의 ETag)
+    private final AtomicLong catalogVersion = new AtomicLong();
+    // 마지막으로 상품이 바뀐 시각 (Last-Modified)
+    private volatile long lastModified = System.currentTimeMillis();
+    // 변경 알림을 받는 쪽 (화면 캐시 등) - 등록은 시작할 때 한 번, 알림은 매 변경마다이므로 CopyOnWriteArrayList
+    private final List<ItemChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    public ItemRepository() {
+        this(new ConcurrentItemStore());
+    }
+
+    // 어떤 저장소를 쓸지는 ItemStoreConfig 에서 결정 (itemservice.store.type)
+    @Autowired
+    public ItemRepository(ItemStore store) {
+        this.store = store;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Object();
+        }
+    }
 
     public Item save(Item item) {
-        item.setId(++sequence);
-        store.put(item.getId(), item);
-        return item;
+        Item savedItem = store.save(item);
+        indexSaved(savedItem);
+        modified();
+        changed(savedItem);
+        return savedItem;
+    }
+
+    /**
+     * 여러 상품을 한 번에 저장 (대량 등록)
+     */
+    public List<Item> saveAll(List<Item> items) {
+        List<Item> savedItems = store.saveAll(items);
+        for (Item savedItem : savedItems) {
+            indexSaved(savedItem);
+        }
+        modified();
+        for (Item savedItem : savedItems) {
+            changed(savedItem);
+        }
+        return savedItems;
     }
 
     public Item findById(Long id) {
-        return store.get(id);
+        return store.findById(id);
     }
 
     public List<Item> findAll() {
-        return new ArrayList<>(store.values());
+        return store.findAll();
+    }
+
+    /**
+     * id 오름차순 offset 페이지 조회 - offset 만큼 건너뛰어야 하므로 뒤쪽 페이지일수록 느려짐
+     */
+    public List<Item> findPage(int offset, int limit) {
+        return store.findPage(Math.max(0, offset), pageSize(limit));
+    }
+
+    /**
+     * id 오름차순 커서 페이지 조회 - cursor(마지막으로 본 id) 다음부터 size 개
+     * 카탈로그 크기와 관계없이 일정한 비용으로 다음 페이지를 조회할 수 있음
+     */
+    public ItemPage findAfter(Long cursor, int size) {
+        int pageSize = pageSize(size);
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        List<Item> items = store.findAfter(cursor == null ? 0L : cursor, pageSize + 1);
+        if (items.size() <= pageSize) {
+            return new ItemPage(items, pageSize, null);
+        }
+        List<Item> pageItems = items.subList(0, pageSize);
+        return new ItemPage(pageItems, pageSize, pageItems.get(pageSize - 1).getId());
+    }
+
+    /**
+     * 상품명 접두사 검색 (상품명 오름차순)
+     */
+    public List<Item> findByItemNamePrefix(String prefix, int limit) {
+        return search(new ItemSearchCond(prefix, null, null, null), limit);
+    }
+
+    /**
+     * 가격 범위 검색 min <= price <= max (가격 오름차순)
+     */
+    public List<Item> findByPriceBetween(int min, int max, int limit) {
+        return search(new ItemSearchCond(null, min, max, null), limit);
+    }
+
+    /**
+     * 재고 부족 상품 검색 quantity <= maxQuantity (수량 오름차순)
+     */
+    public List<Item> findByQuantityAtMost(int maxQuantity, int limit) {
+        return search(new ItemSearchCond(null, null, null, maxQuantity), limit);
+    }
+
+    /**
+     * 조건 중 하나의 인덱스로 후보를 찾고 나머지 조건으로 거름
+     * 인덱스 우선순위 : 상품명 접두사 -> 가격 범위 -> 수량
+     */
+    public List<Item> search(ItemSearchCond cond, int limit) {
+        int pageSize = pageSize(limit);
+        List<Item> result = new ArrayList<>();
+        Iterable<Long> candidates = candidates(cond);
+        if (candidates == null) {
+            return findPage(0, pageSize);
+        }
+        for (Long id : candidates) {
+            // 인덱스는 저장소와 별도로 갱신되므로 현재 값으로 한 번 더 확인 (동시 수정 중 남은 항목 제거)
+            Item item = store.findById(id);
+            if (item != null && matches(item, cond) && !containsId(result, id)) {
+                result.add(item);
+                if (result.size() >= pageSize) {
+                    break;
+                }
+            }
+        }
+        return result;
     }
 
     public void update(Long itemId, Item updateParam) {
-        Item findItem = findById(itemId);
-        findItem.setItemName(updateParam.getItemName());
-        findItem.setPrice(updateParam.getPrice());
-        findItem.setQuantity(updateParam.getQuantity());
+        Item after;
+        synchronized (stripe(itemId)) {
+            Item before = store.findById(itemId);
+            store.update(itemId, updateParam);
+            after = store.findById(itemId);
+            if (before != null) {
+                removeIndex(before);
+            }
+            if (after != null) {
+                addIndex(after);
+            }
+        }
+        if (after != null) {
+            changed(after);
+            modified();
+        }
+    }
+
+    /**
+     * 낙관적 락 수정 - 수정 폼을 연 시점의 버전(expectedVersion)이 현재 버전과 같을 때만 수정
+     * 저장된 Item 은 교체만 되므로 조회하는 쪽은 막히지 않고, 반쯤 바뀐 상품을 보지도 않는다.
+     *
+     * @return 수정했으면 true, 상품이 없거나 그 사이 다른 요청이 먼저 수정했으면 false
+     */
+    public boolean update(Long itemId, Item updateParam, long expectedVersion) {
+        Item after;
+        synchronized (stripe(itemId)) {
+            Item before = store.findById(itemId);
+            if (before == null || before.getVersion() != expectedVersion) {
+                return false;
+            }
+            if (!store.update(itemId, updateParam, expectedVersion)) {
+                return false;
+            }
+            // 버전이 같았으므로 before 가 바로 교체된 상품
+            removeIndex(before);
+            after = store.findById(itemId);
+            if (after != null) {
+                addIndex(after);
+            }
+        }
+        if (after != null) {
+            changed(after);
+        }
+        modified();
+        return true;
+    }
+
+    /**
+     * 이미 id 가 있는 상품을 그대로 넣음 (스냅샷 파일에서 초기 데이터를 채울 때 사용)
+     */
+    public void restore(Item item) {
+        synchronized (stripe(item.getId())) {
+            Item before = store.findById(item.getId());
+            store.restore(item);
+            if (before != null) {
+                removeIndex(before);
+            }
+            addIndex(item);
+        }
+        modified();
+        changed(item);
+    }
+
+    /**
+     * 전체 상품을 스냅샷 파일로 저장 (MappedItemSnapshot 으로 읽을 수 있음)
+     *
+     * @return 저장한 상품 수
+     */
+    public long exportSnapshot(Path file) throws IOException {
+        return ItemSnapshotWriter.write(store, file);
     }
 
     public void clearStore() {
-        store.clear();
+        store.clearStore();
+        itemNameIndex.clear();
+        priceIndex.clear();
+        quantityIndex.clear();
+        modified();
+        for (ItemChangeListener listener : listeners) {
+            listener.itemsCleared();
+        }
+    }
+
+    public void addListener(ItemChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 카탈로그 버전 - 상품이 하나라도 저장/수정되면 바뀜
+     */
+    public long getCatalogVersion() {
+        return catalogVersion.get();
+    }
+
+    /**
+     * 마지막으로 상품이 저장/수정된 시각 (epoch millis)
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    private Iterable<Long> candidates(ItemSearchCond cond) {
+        if (StringUtils.hasText(cond.getItemName())) {
+            ensureIndexed();
+            String prefix = cond.getItemName();
+            return itemNameIndex.range(prefix, prefixEnd(prefix), false);
+        }
+        if (cond.getPriceMin() != null || cond.getPriceMax() != null) {
+            int min = cond.getPriceMin() == null ? Integer.MIN_VALUE : cond.getPriceMin();
+            int max = cond.getPriceMax() == null ? Integer.MAX_VALUE : cond.getPriceMax();
+            if (min > max) {
+                return Collections.emptyList();
+            }
+            ensureIndexed();
+            return priceIndex.range(min, max, true);
+        }
+        if (cond.getQuantityMax() != null) {
+            ensureIndexed();
+            return quantityIndex.headTo(cond.getQuantityMax());
+        }
+        return null;
+    }
+
+    private boolean matches(Item item, ItemSearchCond cond) {
+        if (StringUtils.hasText(cond.getItemName())
+                && (item.getItemName() == null || !item.getItemName().startsWith(cond.getItemName()))) {
+            return false;
+        }
+        Integer price = item.getPrice();
+        if (cond.getPriceMin() != null && (price == null || price < cond.getPriceMin())) {
+            return false;
+        }
+        if (cond.getPriceMax() != null && (price == null || price > cond.getPriceMax())) {
+            return false;
+        }
+        Integer quantity = item.getQuantity();
+        return cond.getQuantityMax() == null || (quantity != null && quantity <= cond.getQuantityMax());
+    }
+
+    private boolean containsId(List<Item> items, Long id) {
+        for (Item item : items) {
+            if (item.getId().equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void modified() {
+        lastModified = System.currentTimeMillis();
+        catalogVersion.incrementAndGet();
+    }
+
+    private void changed(Item item) {
+        for (ItemChangeListener listener : listeners) {
+            listener.itemChanged(item);
+        }
+    }
+
+    /**
+     * 저장소에 이미 있던 상품(복구, 스냅샷)을 인덱스에 넣음 - 처음 검색할 때 한 번
+     * 그동안의 저장/수정도 인덱스를 갱신하므로, 여기서는 id 마다 stripe 안에서 현재 값을 다시 읽어 넣기만 하면 됨
+     */
+    private void ensureIndexed() {
+        if (indexed) {
+            return;
+        }
+        synchronized (indexLock) {
+            if (indexed) {
+                return;
+            }
+            long cursor = 0L;
+            List<Item> page;
+            while (!(page = store.findAfter(cursor, MAX_PAGE_SIZE * 10)).isEmpty()) {
+                for (Item item : page) {
+                    synchronized (stripe(item.getId())) {
+                        Item current = store.findById(item.getId());
+                        if (current != null) {
+                            addIndex(current);
+                        }
+                    }
+                }
+                cursor = page.get(page.size() - 1).getId();
+            }
+            indexed = true;
+        }
+    }
+
+    /**
+     * 새로 저장된 상품을 인덱스에 추가
+     * 저장 직후 같은 id 의 수정이 먼저 끝났다면 그 수정이 이미 새 값으로 인덱스를 맞췄으므로 건너뜀
+     */
+    private void indexSaved(Item savedItem) {
+        synchronized (stripe(savedItem.getId())) {
+            Item current = store.findById(savedItem.getId());
+            if (current != null && Objects.equals(current.getVersion(), savedItem.getVersion())) {
+                addIndex(savedItem);
+            }
+        }
+    }
+
+    private Object stripe(Long itemId) {
+        return stripes[(int) (itemId & (stripes.length - 1))];
+    }
+
+    private void addIndex(Item item) {
+        itemNameIndex.add(item.getItemName(), item.getId());
+        priceIndex.add(item.getPrice(), item.getId());
+        quantityIndex.add(item.getQuantity(), item.getId());
+    }
+
+    private void removeIndex(Item item) {
+        itemNameIndex.remove(item.getItemName(), item.getId());
+        priceIndex.remove(item.getPrice(), item.getId());
+        quantityIndex.remove(item.getQuantity(), item.getId());
+    }
+
+    /**
+     * prefix 로 시작하는 문자열의 상한 (마지막 글자를 하나 증가) - ex) "ite" -> "itf"
+     */
+    private static String prefixEnd(String prefix) {
+        int last = prefix.length() - 1;
+        char lastChar = prefix.charAt(last);
+        if (lastChar == Character.MAX_VALUE) {
+            return prefix + Character.MAX_VALUE;
+        }
+        return prefix.substring(0, last) + (char) (lastChar + 1);
+    }
+
+    private int pageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
 }
@@ -0,0 +1,26 @@
+package hello.itemservice.domain.item;
+
+import lombok.Data;
+
+/**
+ * 상품 검색 조건 - 값이 있는 조건만 적용 (모두 AND)
+ * itemName 은 접두사 검색, quantityMax 는 재고 부족 상품 검색용
+ */
+@Data
+public class ItemSearchCond {
+
+    private String itemName;
+    private Integer priceMin;
+    private Integer priceMax;
+    private Integer quantityMax;
+
+    public ItemSearchCond() {
+    }
+
+    public ItemSearchCond(String itemName, Integer priceMin, Integer priceMax, Integer quantityMax) {
+        this.itemName = itemName;
+        this.priceMin = priceMin;
+        this.priceMax = priceMax;
+        this.quantityMax = quantityMax;
+    }
+}
@@ -0,0 +1,64 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ItemRepository 가 실제로 상품을 보관하는 저장소
+ * - ConcurrentItemStore : 기본, ConcurrentSkipListMap 기반 (id 순서 유지 - 커서 페이지 조회에 필요)
+ * - PrimitiveItemStore : 대용량 카탈로그용, long 키 + int[] 컬럼 기반
+ */
+public interface ItemStore {
+
+    Item save(Item item);
+
+    /**
+     * 여러 상품을 한 번에 저장 (대량 등록용) - 저장소에 따라 락/로그 기록을 묶음 단위로 처리
+     */
+    default List<Item> saveAll(List<Item> items) {
+        List<Item> savedItems = new ArrayList<>(items.size());
+        for (Item item : items) {
+            savedItems.add(save(item));
+        }
+        return savedItems;
+    }
+
+    Item findById(Long id);
+
+    List<Item> findAll();
+
+    /**
+     * id 오름차순으로 offset 번째부터 limit 개
+     */
+    List<Item> findPage(int offset, int limit);
+
+    /**
+     * id 오름차순으로 afterId 다음부터 limit 개 (커서 방식)
+     */
+    List<Item> findAfter(long afterId, int limit);
+
+    /**
+     * 수정 - 버전과 관계없이 덮어씀 (버전은 1 증가)
+     */
+    void update(Long itemId, Item updateParam);
+
+    /**
+     * 현재 버전이 expectedVersion 일 때만 수정 (compare-and-set, 버전은 1 증가)
+     *
+     * @return 수정했으면 true, 상품이 없거나 다른 요청이 먼저 수정했으면 false
+     */
+    boolean update(Long itemId, Item updateParam, long expectedVersion);
+
+    void clearStore();
+
+    /**
+     * 저장된 상품 수 (메트릭용)
+     */
+    int size();
+
+    /**
+     * 이미 id 가 있는 상품을 그대로 넣음 (복구용)
+     * 같은 id 가 있으면 덮어쓰고, 이후 save 로 발급되는 id 는 이 id 보다 커야 함
+     */
+    void restore(Item item);
+}
@@ -0,0 +1,118 @@
+package hello.itemservice.domain.item;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 저장소 작업별 소요 시간(itemservice.store.operations)과 상품 수(itemservice.store.size)를 기록하는 ItemStore
+ * Timer 는 생성 시점에 한 번만 만들어 두므로 호출마다 미터를 찾지 않는다.
+ */
+public class MeteredItemStore implements ItemStore, Closeable {
+
+    private final ItemStore delegate;
+
+    private final Timer saveTimer;
+    private final Timer saveAllTimer;
+    private final Timer findByIdTimer;
+    private final Timer findAllTimer;
+    private final Timer findPageTimer;
+    private final Timer findAfterTimer;
+    private final Timer updateTimer;
+    private final Timer clearStoreTimer;
+    private final Timer restoreTimer;
+
+    public MeteredItemStore(ItemStore delegate, MeterRegistry registry, String storeType) {
+        this.delegate = delegate;
+        this.saveTimer = timer(registry, storeType, "save");
+        this.saveAllTimer = timer(registry, storeType, "saveAll");
+        this.findByIdTimer = timer(registry, storeType, "findById");
+        this.findAllTimer = timer(registry, storeType, "findAll");
+        this.findPageTimer = timer(registry, storeType, "findPage");
+        this.findAfterTimer = timer(registry, storeType, "findAfter");
+        this.updateTimer = timer(registry, storeType, "update");
+        this.clearStoreTimer = timer(registry, storeType, "clearStore");
+        this.restoreTimer = timer(registry, storeType, "restore");
+        Gauge.builder("itemservice.store.size", delegate, ItemStore::size)
+                .description("number of items in the store")
+                .tag("store", storeType)
+                .register(registry);
+    }
+
+    @Override
+    public Item save(Item item) {
+        return saveTimer.record(() -> delegate.save(item));
+    }
+
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        return saveAllTimer.record(() -> delegate.saveAll(items));
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return findByIdTimer.record(() -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return findAllTimer.record(delegate::findAll);
+    }
+
+    @Override
+    public List<Item> findPage(int offset, int limit) {
+        return findPageTimer.record(() -> delegate.findPage(offset, limit));
+    }
+
+    @Override
+    public List<Item> findAfter(long afterId, int limit) {
+        return findAfterTimer.record(() -> delegate.findAfter(afterId, limit));
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        updateTimer.record(() -> delegate.update(itemId, updateParam));
+    }
+
+    @Override
+    public boolean update(Long itemId, Item updateParam, long expectedVersion) {
+        return updateTimer.record(() -> delegate.update(itemId, updateParam, expectedVersion));
+    }
+
+    @Override
+    public void clearStore() {
+        clearStoreTimer.record(delegate::clearStore);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void restore(Item item) {
+        restoreTimer.record(() -> delegate.restore(item));
+    }
+
+    /**
+     * 감싼 저장소가 닫아야 하는 저장소(JournalingItemStore)면 함께 닫음
+     */
+    @Override
+    public void close() throws IOException {
+        if (delegate instanceof Closeable) {
+            ((Closeable) delegate).close();
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String storeType, String operation) {
+        return Timer.builder("itemservice.store.operations")
+                .description("item store operation latency")
+                .tag("store", storeType)
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
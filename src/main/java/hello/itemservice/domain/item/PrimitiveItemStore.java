@@ -0,0 +1,368 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 대용량 카탈로그용 저장소
+ * - Long 키, Integer 필드를 박싱하지 않고 long[] / int[] 배열에 컬럼 단위로 저장
+ * - id -> 행 번호는 open addressing(선형 탐사) 해시 테이블로 찾음
+ * - Item 객체는 findById / findAll 시점에 만들어서 반환 (저장소 안에는 Item 객체가 없음)
+ * - 행은 id 발급 순서대로 추가되므로 ids 컬럼은 항상 오름차순 -> 페이지 조회는 배열 범위 조회
+ *
+ * price, quantity 의 null 은 Integer.MIN_VALUE 로 표현한다.
+ * 한 행의 컬럼들은 쓰기 락 안에서만 바뀌고 읽기는 낙관적 읽기 검증을 거치므로 반쯤 바뀐 행을 읽는 일은 없다.
+ */
+public class PrimitiveItemStore implements ItemStore {
+
+    static final int NULL_VALUE = Integer.MIN_VALUE;
+    private static final long EMPTY_KEY = 0L; // id 는 1 부터 발급되므로 0 을 빈 슬롯으로 사용
+
+    private final StampedLock lock = new StampedLock();
+    private final int initialCapacity;
+
+    // 해시 테이블 : id -> 행 번호
+    private long[] tableKeys;
+    private int[] tableRows;
+
+    // 컬럼 : 행 번호 -> 값
+    private long[] ids;
+    private String[] itemNames;
+    private int[] prices;
+    private int[] quantities;
+    private long[] versions;
+
+    private int size;
+    private long sequence;
+
+    public PrimitiveItemStore() {
+        this(1024);
+    }
+
+    public PrimitiveItemStore(int initialCapacity) {
+        this.initialCapacity = Math.max(16, initialCapacity);
+        allocate(this.initialCapacity);
+    }
+
+    @Override
+    public Item save(Item item) {
+        long stamp = lock.writeLock();
+        try {
+            long id = ++sequence;
+            ensureCapacity(size + 1);
+            int row = size++;
+            ids[row] = id;
+            versions[row] = 0L;
+            writeRow(row, item);
+            insertKey(tableKeys, tableRows, id, row);
+            item.setId(id);
+            item.setVersion(0L);
+            return item;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + items.size()); // 배열 확장은 한 번만
+            for (Item item : items) {
+                long id = ++sequence;
+                int row = size++;
+                ids[row] = id;
+                versions[row] = 0L;
+                writeRow(row, item);
+                insertKey(tableKeys, tableRows, id, row);
+                item.setId(id);
+                item.setVersion(0L);
+            }
+            return items;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Item findById(Long id) {
+        if (id == null) {
+            return null;
+        }
+        // 낙관적 읽기 : 쓰기가 없으면 락 없이 읽고, 도중에 쓰기가 있었으면 읽기 락으로 다시 읽음
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                Item item = readItem(id);
+                if (lock.validate(stamp)) {
+                    return item;
+                }
+            } catch (RuntimeException e) {
+                // 배열 교체 중에 읽은 경우 - 아래에서 락을 잡고 다시 읽음
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return readItem(id);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public List<Item> findAll() {
+        long stamp = lock.readLock();
+        try {
+            List<Item> result = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                result.add(toItem(row));
+            }
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public List<Item> findPage(int offset, int limit) {
+        long stamp = lock.readLock();
+        try {
+            return readRows(offset, limit);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public List<Item> findAfter(long afterId, int limit) {
+        long stamp = lock.readLock();
+        try {
+            return readRows(firstRowAfter(afterId), limit);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        long stamp = lock.writeLock();
+        try {
+            int row = findRow(tableKeys, tableRows, itemId);
+            if (row >= 0) {
+                writeRow(row, updateParam);
+                versions[row]++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean update(Long itemId, Item updateParam, long expectedVersion) {
+        long stamp = lock.writeLock();
+        try {
+            int row = findRow(tableKeys, tableRows, itemId);
+            if (row < 0 || versions[row] != expectedVersion) {
+                return false;
+            }
+            writeRow(row, updateParam);
+            versions[row]++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        long stamp = lock.writeLock();
+        try {
+            allocate(initialCapacity);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void restore(Item item) {
+        long stamp = lock.writeLock();
+        try {
+            long id = item.getId();
+            long version = item.getVersion() == null ? 0L : item.getVersion();
+            int row = findRow(tableKeys, tableRows, id);
+            if (row >= 0) {
+                writeRow(row, item);
+                versions[row] = version;
+                return;
+            }
+            ensureCapacity(size + 1);
+            if (size == 0 || ids[size - 1] < id) {
+                row = size++;
+                ids[row] = id;
+                versions[row] = version;
+                writeRow(row, item);
+                insertKey(tableKeys, tableRows, id, row);
+            } else {
+                // ids 컬럼의 오름차순을 유지하기 위해 중간에 끼워 넣고 해시 테이블을 다시 만듦 (복구 중에만 드물게 발생)
+                row = firstRowAfter(id);
+                shiftRows(row);
+                size++;
+                ids[row] = id;
+                versions[row] = version;
+                writeRow(row, item);
+                rebuildTable();
+            }
+            sequence = Math.max(sequence, id);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void shiftRows(int fromRow) {
+        int length = size - fromRow;
+        System.arraycopy(ids, fromRow, ids, fromRow + 1, length);
+        System.arraycopy(itemNames, fromRow, itemNames, fromRow + 1, length);
+        System.arraycopy(prices, fromRow, prices, fromRow + 1, length);
+        System.arraycopy(quantities, fromRow, quantities, fromRow + 1, length);
+        System.arraycopy(versions, fromRow, versions, fromRow + 1, length);
+    }
+
+    private void rebuildTable() {
+        Arrays.fill(tableKeys, EMPTY_KEY);
+        for (int row = 0; row < size; row++) {
+            insertKey(tableKeys, tableRows, ids[row], row);
+        }
+    }
+
+    private Item readItem(long id) {
+        int row = findRow(tableKeys, tableRows, id);
+        return row < 0 ? null : toItem(row);
+    }
+
+    private List<Item> readRows(int fromRow, int limit) {
+        int toRow = (int) Math.min(size, (long) fromRow + limit);
+        List<Item> result = new ArrayList<>(Math.max(0, toRow - fromRow));
+        for (int row = fromRow; row < toRow; row++) {
+            result.add(toItem(row));
+        }
+        return result;
+    }
+
+    private int firstRowAfter(long afterId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ids[mid] <= afterId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Item toItem(int row) {
+        Item item = new Item(itemNames[row], toInteger(prices[row]), toInteger(quantities[row]));
+        item.setId(ids[row]);
+        item.setVersion(versions[row]);
+        return item;
+    }
+
+    private void writeRow(int row, Item item) {
+        itemNames[row] = item.getItemName();
+        prices[row] = toInt(item.getPrice());
+        quantities[row] = toInt(item.getQuantity());
+    }
+
+    private void allocate(int capacity) {
+        tableKeys = new long[tableSizeFor(capacity)];
+        tableRows = new int[tableKeys.length];
+        ids = new long[capacity];
+        itemNames = new String[capacity];
+        prices = new int[capacity];
+        quantities = new int[capacity];
+        versions = new long[capacity];
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > ids.length) {
+            int capacity = Math.max(required, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            itemNames = Arrays.copyOf(itemNames, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+        // load factor 0.5 를 넘으면 테이블을 두 배로 늘려 다시 채움
+        if (required * 2 > tableKeys.length) {
+            long[] newKeys = new long[tableKeys.length * 2];
+            int[] newRows = new int[newKeys.length];
+            for (int row = 0; row < size; row++) {
+                insertKey(newKeys, newRows, ids[row], row);
+            }
+            tableKeys = newKeys;
+            tableRows = newRows;
+        }
+    }
+
+    private static void insertKey(long[] keys, int[] rows, long id, int row) {
+        int mask = keys.length - 1;
+        int slot = hash(id) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = id;
+        rows[slot] = row;
+    }
+
+    private static int findRow(long[] keys, int[] rows, long id) {
+        int mask = keys.length - 1;
+        int slot = hash(id) & mask;
+        for (int probe = 0; probe < keys.length; probe++) {
+            long key = keys[slot];
+            if (key == id) {
+                return rows[slot];
+            }
+            if (key == EMPTY_KEY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L; // 연속된 id 가 테이블에 고르게 퍼지도록 섞음
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = 1;
+        while (n < capacity * 2) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    private static int toInt(Integer value) {
+        return value == null ? NULL_VALUE : value;
+    }
+
+    private static Integer toInteger(int value) {
+        return value == NULL_VALUE ? null : value;
+    }
+}
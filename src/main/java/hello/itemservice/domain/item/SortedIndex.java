@@ -0,0 +1,76 @@
+package hello.itemservice.domain.item;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 값 -> id 보조 인덱스
+ * (값, id) 쌍을 정렬된 ConcurrentSkipListSet 에 보관하므로
+ * 범위 조회는 O(log n + k), 추가/삭제는 락 없이 원자적으로 처리된다.
+ */
+class SortedIndex<K extends Comparable<K>> {
+
+    private final NavigableSet<Entry<K>> entries = new ConcurrentSkipListSet<>(
+            Comparator.<Entry<K>, K>comparing(entry -> entry.key).thenComparingLong(entry -> entry.id));
+
+    void add(K key, long id) {
+        if (key != null) {
+            entries.add(new Entry<>(key, id));
+        }
+    }
+
+    void remove(K key, long id) {
+        if (key != null) {
+            entries.remove(new Entry<>(key, id));
+        }
+    }
+
+    /**
+     * from 이상 to 미만(toInclusive 이면 이하) 인 값의 id, 값 오름차순
+     * 필요한 만큼만 읽을 수 있도록 목록을 만들지 않고 순회만 제공
+     */
+    Iterable<Long> range(K from, K to, boolean toInclusive) {
+        Entry<K> fromEntry = new Entry<>(from, Long.MIN_VALUE);
+        Entry<K> toEntry = new Entry<>(to, toInclusive ? Long.MAX_VALUE : Long.MIN_VALUE);
+        return ids(entries.subSet(fromEntry, true, toEntry, toInclusive));
+    }
+
+    /**
+     * to 이하인 값의 id, 값 오름차순
+     */
+    Iterable<Long> headTo(K to) {
+        return ids(entries.headSet(new Entry<>(to, Long.MAX_VALUE), true));
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    private Iterable<Long> ids(NavigableSet<Entry<K>> range) {
+        return () -> new Iterator<Long>() {
+            private final Iterator<Entry<K>> iterator = range.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Long next() {
+                return iterator.next().id;
+            }
+        };
+    }
+
+    private static class Entry<K> {
+        private final K key;
+        private final long id;
+
+        private Entry(K key, long id) {
+            this.key = key;
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package hello.itemservice.domain.item.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * write-ahead log 파일 쓰기 (그룹 커밋)
+ *
+ * 요청 스레드는 레코드를 큐에 넣고 기다리기만 하고, 실제 쓰기는 전용 writer 스레드 하나가 한다.
+ * writer 는 큐에 쌓인 레코드를 한 번에 꺼내 쓰고 fsync 를 한 번만 호출하므로
+ * 동시 요청이 많을수록 레코드당 fsync 비용이 줄어든다.
+ *
+ * 로그는 wal-{segment}.log 파일 단위로 나뉘고, 스냅샷을 찍을 때 rotate() 로 새 파일을 시작한다.
+ */
+@Slf4j
+class ItemJournal implements Closeable {
+
+    private static final int MAX_BATCH = 4096;
+
+    private final Path dir;
+    private final boolean fsync;
+    private final BlockingQueue<Write> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    private volatile boolean closed;
+    private FileChannel channel;
+    private long segment;
+
+    ItemJournal(Path dir, long segment, boolean fsync) throws IOException {
+        this.dir = dir;
+        this.fsync = fsync;
+        this.segment = segment;
+        this.channel = open(segment);
+        this.writer = new Thread(this::run, "item-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    static Path segmentFile(Path dir, long segment) {
+        return dir.resolve("wal-" + segment + ".log");
+    }
+
+    /**
+     * 레코드를 로그에 추가 - 반환된 future 는 디스크에 기록(fsync)된 뒤 완료된다.
+     */
+    CompletableFuture<Long> append(byte[] frame) {
+        return enqueue(new Write(frame, false));
+    }
+
+    /**
+     * 새 세그먼트 파일로 전환 - 이전에 append 된 레코드는 모두 이전 세그먼트에 기록된 뒤 완료된다.
+     *
+     * @return 새 세그먼트 번호
+     */
+    long rotate() {
+        return enqueue(new Write(null, true)).join();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        queue.add(Write.SHUTDOWN);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private CompletableFuture<Long> enqueue(Write write) {
+        if (closed) {
+            CompletableFuture<Long> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new IllegalStateException("journal is closed"));
+            return failed;
+        }
+        queue.add(write);
+        return write.done;
+    }
+
+    private void run() {
+        List<Write> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue; // close() 는 SHUTDOWN 으로만 종료시킨다
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+
+            boolean shutdown = writeBatch(batch);
+            batch.clear();
+            if (shutdown) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return SHUTDOWN 을 만났으면 true
+     */
+    private boolean writeBatch(List<Write> batch) {
+        List<Write> pending = new ArrayList<>(batch.size());
+        for (Write write : batch) {
+            if (write == Write.SHUTDOWN) {
+                flush(pending);
+                return true;
+            }
+            if (write.rotate) {
+                // rotate 이전 레코드는 이전 세그먼트에 먼저 기록
+                flush(pending);
+                pending.clear();
+                rotateSegment(write);
+            } else {
+                pending.add(write);
+            }
+        }
+        flush(pending);
+        return false;
+    }
+
+    private void flush(List<Write> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            ByteBuffer[] buffers = new ByteBuffer[pending.size()];
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i] = ByteBuffer.wrap(pending.get(i).frame);
+            }
+            while (hasRemaining(buffers)) {
+                channel.write(buffers);
+            }
+            if (fsync) {
+                channel.force(false); // 묶음당 한 번만 fsync
+            }
+            for (Write write : pending) {
+                write.done.complete(segment);
+            }
+        } catch (IOException e) {
+            log.error("journal write failed segment={}", segment, e);
+            for (Write write : pending) {
+                write.done.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void rotateSegment(Write write) {
+        try {
+            channel.close();
+            segment++;
+            channel = open(segment);
+            write.done.complete(segment);
+        } catch (IOException e) {
+            log.error("journal rotate failed segment={}", segment, e);
+            write.done.completeExceptionally(e);
+        }
+    }
+
+    private FileChannel open(long segment) throws IOException {
+        return FileChannel.open(segmentFile(dir, segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static boolean hasRemaining(ByteBuffer[] buffers) {
+        return buffers[buffers.length - 1].hasRemaining();
+    }
+
+    private static class Write {
+
+        static final Write SHUTDOWN = new Write(null, false);
+
+        final byte[] frame;
+        final boolean rotate;
+        final CompletableFuture<Long> done = new CompletableFuture<>();
+
+        Write(byte[] frame, boolean rotate) {
+            this.frame = frame;
+            this.rotate = rotate;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package hello.itemservice.domain.item.journal;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * 로그 레코드 인코딩/디코딩
+ *
+ * 프레임 : [payload 길이 int][CRC32 int][payload]
+ * payload : [타입 byte] + UPSERT 인 경우 [id long][null 플래그 byte][itemName][price int][quantity int][version long]
+ * (version 이 없는 이전 레코드는 version 0 으로 읽음)
+ *
+ * UPSERT 는 변경 후 상품의 전체 상태를 담으므로 같은 레코드를 여러 번 적용해도 결과가 같다.
+ */
+@Slf4j
+final class ItemRecords {
+
+    static final byte UPSERT = 1;
+    static final byte CLEAR = 2;
+
+    private static final int HAS_NAME = 1;
+    private static final int HAS_PRICE = 1 << 1;
+    private static final int HAS_QUANTITY = 1 << 2;
+
+    private static final int MAX_PAYLOAD = 1 << 20;
+
+    private ItemRecords() {
+    }
+
+    static byte[] upsert(Item item) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(UPSERT);
+            out.writeLong(item.getId());
+            int flags = (item.getItemName() != null ? HAS_NAME : 0)
+                    | (item.getPrice() != null ? HAS_PRICE : 0)
+                    | (item.getQuantity() != null ? HAS_QUANTITY : 0);
+            out.writeByte(flags);
+            if (item.getItemName() != null) {
+                byte[] name = item.getItemName().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(name.length);
+                out.write(name);
+            }
+            out.writeInt(item.getPrice() != null ? item.getPrice() : 0);
+            out.writeInt(item.getQuantity() != null ? item.getQuantity() : 0);
+            out.writeLong(item.getVersion() != null ? item.getVersion() : 0L);
+            return frame(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 메모리 스트림이므로 발생하지 않음
+        }
+    }
+
+    static byte[] clear() {
+        return frame(new byte[]{CLEAR});
+    }
+
+    /**
+     * 파일의 레코드를 순서대로 store 에 적용
+     * 마지막 레코드가 중간에 끊겼거나 CRC 가 맞지 않으면 거기서 멈춘다. (쓰는 도중 종료된 경우)
+     *
+     * @param lastId 적용한 UPSERT 중 가장 큰 id 로 올림 (이후 발급할 id 의 시작점)
+     * @return 적용한 레코드 수
+     */
+    static long replay(Path file, ItemStore store, AtomicLong lastId) throws IOException {
+        long count = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024))) {
+            while (true) {
+                byte[] payload = readFrame(in, file);
+                if (payload == null) {
+                    return count;
+                }
+                apply(payload, store, lastId);
+                count++;
+            }
+        }
+    }
+
+    private static byte[] frame(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        byte[] frame = new byte[8 + payload.length];
+        writeInt(frame, 0, payload.length);
+        writeInt(frame, 4, (int) crc.getValue());
+        System.arraycopy(payload, 0, frame, 8, payload.length);
+        return frame;
+    }
+
+    private static byte[] readFrame(DataInputStream in, Path file) throws IOException {
+        try {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length <= 0 || length > MAX_PAYLOAD) {
+                log.warn("잘못된 레코드 길이, 이후 레코드 무시 file={} length={}", file, length);
+                return null;
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                log.warn("CRC 불일치, 이후 레코드 무시 file={}", file);
+                return null;
+            }
+            return payload;
+        } catch (EOFException e) {
+            return null; // 파일 끝 또는 끊긴 마지막 레코드
+        }
+    }
+
+    private static void apply(byte[] payload, ItemStore store, AtomicLong lastId) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = in.readByte();
+        if (type == CLEAR) {
+            store.clearStore();
+            return;
+        }
+        long id = in.readLong();
+        int flags = in.readByte();
+        String itemName = null;
+        if ((flags & HAS_NAME) != 0) {
+            byte[] name = new byte[in.readInt()];
+            in.readFully(name);
+            itemName = new String(name, StandardCharsets.UTF_8);
+        }
+        int price = in.readInt();
+        int quantity = in.readInt();
+        long version = in.available() >= Long.BYTES ? in.readLong() : 0L;
+
+        Item item = new Item(itemName,
+                (flags & HAS_PRICE) != 0 ? price : null,
+                (flags & HAS_QUANTITY) != 0 ? quantity : null);
+        item.setId(id);
+        item.setVersion(version);
+        store.restore(item);
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+}
@@ -0,0 +1,381 @@
+package hello.itemservice.domain.item.journal;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemStore;
+import hello.itemservice.domain.item.snapshot.ItemSnapshotWriter;
+import hello.itemservice.domain.item.snapshot.MappedItemSnapshot;
+import hello.itemservice.domain.item.snapshot.SnapshotItemStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 저장소 변경을 write-ahead log 에 남기는 ItemStore (itemservice.journal.enabled=true)
+ *
+ * - 변경 후 상태를 먼저 로그에 남기고 fsync 까지 기다린 뒤 메모리 저장소(delegate)에 반영한다.
+ *   따라서 조회에는 디스크에 기록된 변경만 보이고, 로그 기록이 실패하면 메모리도 바뀌지 않는다.
+ *   (id 는 이 클래스가 발급하고, delegate 에는 restore 로 넣음)
+ * - 주기적으로 스냅샷(MappedItemSnapshot 포맷)을 찍고 스냅샷 이전 로그는 지운다.
+ * - 시작할 때 최신 스냅샷을 매핑만 하고(SnapshotItemStore - 상품을 복사하지 않음), 그 이후 로그만 다시 적용해서 복구한다.
+ *   따라서 복구 시간은 카탈로그 크기가 아니라 마지막 스냅샷 이후의 로그 양에 비례한다.
+ * - 로그가 비어 있을 때 seed 파일(itemservice.seed.file)을 주면 그 파일을 첫 스냅샷으로 복사해서 시작한다.
+ */
+@Slf4j
+public class JournalingItemStore implements ItemStore, Closeable {
+
+    private final ItemStore delegate;
+    private final Path dir;
+    private final ItemJournal journal;
+    // 시작할 때 매핑한 스냅샷의 세그먼트 번호 (없으면 0) - 읽는 중이므로 지우지 않음
+    private final long baseSnapshot;
+
+    // 로그에 남긴 가장 큰 id - save 는 로그를 쓰기 전에 id 를 정해야 하므로 delegate 대신 여기서 발급
+    private final AtomicLong sequence = new AtomicLong();
+    // 같은 상품의 변경은 메모리 반영 순서와 로그 순서가 같아야 하므로 id 별로 줄을 세움
+    private final Object[] stripes = new Object[64];
+    // 변경은 로그 기록부터 메모리 반영까지 읽기 락을 잡음
+    // clearStore 와 스냅샷의 세그먼트 전환은 쓰기 락 - 로그에만 있고 메모리에 아직 없는 변경이 없는 시점
+    private final ReadWriteLock changeLock = new ReentrantReadWriteLock();
+    private final Object snapshotLock = new Object();
+    private final ScheduledExecutorService snapshotScheduler;
+
+    public JournalingItemStore(ItemStore delegate, Path dir, boolean fsync, Duration snapshotInterval) throws IOException {
+        this(delegate, dir, fsync, snapshotInterval, null);
+    }
+
+    /**
+     * @param seed 로그와 스냅샷이 하나도 없을 때 첫 스냅샷으로 쓸 스냅샷 파일 (없으면 null)
+     */
+    public JournalingItemStore(ItemStore delegate, Path dir, boolean fsync, Duration snapshotInterval, @Nullable Path seed) throws IOException {
+        this.dir = dir;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Object();
+        }
+
+        Files.createDirectories(dir);
+        List<Long> snapshots = numbered("snapshot-", ".dat");
+        if (snapshots.isEmpty() && numbered("wal-", ".log").isEmpty() && seed != null) {
+            snapshots = Collections.singletonList(copySeed(seed));
+        }
+        this.baseSnapshot = snapshots.isEmpty() ? 0L : snapshots.get(snapshots.size() - 1);
+        if (baseSnapshot == 0L) {
+            this.delegate = delegate;
+        } else {
+            MappedItemSnapshot snapshot = MappedItemSnapshot.open(snapshotFile(baseSnapshot));
+            sequence.set(snapshot.size() == 0 ? 0L : snapshot.idAt(snapshot.size() - 1));
+            this.delegate = new SnapshotItemStore(snapshot, delegate);
+        }
+        long nextSegment = recover();
+        this.journal = new ItemJournal(dir, nextSegment, fsync);
+
+        this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "item-journal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = snapshotInterval.toMillis();
+        snapshotScheduler.scheduleWithFixedDelay(this::snapshotQuietly, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Item save(Item item) {
+        changeLock.readLock().lock();
+        try {
+            item.setId(sequence.incrementAndGet());
+            item.setVersion(0L);
+            await(journal.append(ItemRecords.upsert(item)));
+            delegate.restore(item);
+        } finally {
+            changeLock.readLock().unlock();
+        }
+        return item;
+    }
+
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        List<CompletableFuture<Long>> written = new ArrayList<>(items.size());
+        changeLock.readLock().lock();
+        try {
+            for (Item item : items) {
+                item.setId(sequence.incrementAndGet());
+                item.setVersion(0L);
+                written.add(journal.append(ItemRecords.upsert(item)));
+            }
+            // 모두 큐에 넣은 뒤에 기다리므로 묶음 전체가 몇 번의 fsync 로 기록됨
+            for (CompletableFuture<Long> future : written) {
+                await(future);
+            }
+            for (Item item : items) {
+                delegate.restore(item);
+            }
+        } finally {
+            changeLock.readLock().unlock();
+        }
+        return new ArrayList<>(items);
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Item> findPage(int offset, int limit) {
+        return delegate.findPage(offset, limit);
+    }
+
+    @Override
+    public List<Item> findAfter(long afterId, int limit) {
+        return delegate.findAfter(afterId, limit);
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        changeLock.readLock().lock();
+        try {
+            synchronized (stripe(itemId)) {
+                Item current = delegate.findById(itemId);
+                if (current != null) {
+                    write(nextVersion(current, updateParam));
+                }
+            }
+        } finally {
+            changeLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean update(Long itemId, Item updateParam, long expectedVersion) {
+        changeLock.readLock().lock();
+        try {
+            synchronized (stripe(itemId)) {
+                Item current = delegate.findById(itemId);
+                if (current == null || current.getVersion() != expectedVersion) {
+                    return false; // 바뀐 것이 없으므로 기록하지 않음
+                }
+                write(nextVersion(current, updateParam));
+                return true;
+            }
+        } finally {
+            changeLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        changeLock.writeLock().lock();
+        try {
+            await(journal.append(ItemRecords.clear()));
+            delegate.clearStore();
+        } finally {
+            changeLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * 복구 / 초기 데이터용이지만 다른 변경과 같이 로그에 남김 (다음 스냅샷 전에 종료되어도 유지되도록)
+     */
+    @Override
+    public void restore(Item item) {
+        changeLock.readLock().lock();
+        try {
+            synchronized (stripe(item.getId())) {
+                if (item.getVersion() == null) {
+                    item.setVersion(0L);
+                }
+                write(item);
+                sequence.accumulateAndGet(item.getId(), Math::max);
+            }
+        } finally {
+            changeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 상태를 스냅샷으로 남기고, 스냅샷에 포함된 로그 세그먼트를 지움
+     */
+    public void snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            // 쓰기 락을 잡는 동안에는 로그에 남긴 변경이 모두 메모리에 반영되어 있으므로
+            // 새 세그먼트로 넘어간 시점 이전의 변경은 모두 스냅샷에 포함된다.
+            // 이후 변경은 새 세그먼트에 남고, 스냅샷에도 들어갔다면 복구 때 다시 적용해도 결과가 같다. (UPSERT)
+            long segment;
+            changeLock.writeLock().lock();
+            try {
+                segment = journal.rotate();
+            } finally {
+                changeLock.writeLock().unlock();
+            }
+            long count = ItemSnapshotWriter.write(delegate, snapshotFile(segment));
+            deleteBefore(segment);
+            log.info("item snapshot created segment={} items={}", segment, count);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        snapshotScheduler.shutdownNow();
+        snapshot(); // 다음 시작 때 로그를 다시 읽지 않도록 종료 직전 스냅샷
+        journal.close();
+        closeDelegate();
+    }
+
+    /**
+     * 스냅샷 없이 로그만 닫음 (비정상 종료 후 복구 테스트용)
+     */
+    void closeWithoutSnapshot() throws IOException {
+        snapshotScheduler.shutdownNow();
+        journal.close();
+        closeDelegate();
+    }
+
+    private void closeDelegate() throws IOException {
+        if (delegate instanceof Closeable) {
+            ((Closeable) delegate).close();
+        }
+    }
+
+    /**
+     * 로그에 남기고 fsync 를 기다린 뒤 메모리에 반영 - 같은 id 의 stripe 를 잡은 채로 호출
+     */
+    private void write(Item item) {
+        await(journal.append(ItemRecords.upsert(item)));
+        delegate.restore(item);
+    }
+
+    private static Item nextVersion(Item current, Item updateParam) {
+        Item updatedItem = new Item(updateParam.getItemName(), updateParam.getPrice(), updateParam.getQuantity());
+        updatedItem.setId(current.getId());
+        updatedItem.setVersion(current.getVersion() + 1);
+        return updatedItem;
+    }
+
+    private void await(CompletableFuture<Long> written) {
+        try {
+            written.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("item journal write failed", e.getCause());
+        }
+    }
+
+    private Object stripe(Long itemId) {
+        return stripes[(int) (itemId & (stripes.length - 1))];
+    }
+
+    /**
+     * 최신 스냅샷(이미 delegate 의 바탕으로 매핑됨) 이후 로그 세그먼트를 delegate 에 적용
+     *
+     * @return 새로 쓸 세그먼트 번호
+     */
+    private long recover() throws IOException {
+        long startNanos = System.nanoTime();
+        List<Long> segments = numbered("wal-", ".log");
+
+        long snapshotSegment = baseSnapshot;
+        long snapshotItems = delegate.size();
+
+        long replayed = 0L;
+        long lastSegment = snapshotSegment;
+        for (Long segment : segments) {
+            if (segment >= snapshotSegment) {
+                replayed += ItemRecords.replay(ItemJournal.segmentFile(dir, segment), delegate, sequence);
+            }
+            lastSegment = Math.max(lastSegment, segment);
+        }
+
+        log.info("item journal recovered snapshot={} items={} replayedRecords={} elapsed={}ms",
+                snapshotSegment, snapshotItems, replayed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        // 끊긴 레코드가 남아있을 수 있는 마지막 세그먼트에는 이어 쓰지 않고 새 세그먼트로 시작
+        return lastSegment + 1;
+    }
+
+    /**
+     * seed 파일을 첫 스냅샷(snapshot-1.dat)으로 복사 - 형식을 확인하고 fsync 한 뒤 이름을 바꿈
+     *
+     * @return 스냅샷 세그먼트 번호
+     */
+    private long copySeed(Path seed) throws IOException {
+        MappedItemSnapshot.open(seed).close();
+        long segment = 1L;
+        Path tmp = dir.resolve("snapshot-" + segment + ".dat.tmp");
+        Files.copy(seed, tmp, StandardCopyOption.REPLACE_EXISTING);
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(tmp, snapshotFile(segment), StandardCopyOption.ATOMIC_MOVE);
+        log.info("item journal seeded from {}", seed);
+        return segment;
+    }
+
+    private void deleteBefore(long segment) throws IOException {
+        for (Long number : numbered("wal-", ".log")) {
+            if (number < segment) {
+                Files.deleteIfExists(ItemJournal.segmentFile(dir, number));
+            }
+        }
+        for (Long number : numbered("snapshot-", ".dat")) {
+            // 매핑해서 읽고 있는 스냅샷은 남겨 둠 (다음 시작 때 더 새 스냅샷을 매핑한 뒤 지워짐)
+            if (number < segment && number != baseSnapshot) {
+                Files.deleteIfExists(snapshotFile(number));
+            }
+        }
+    }
+
+    private Path snapshotFile(long segment) {
+        return dir.resolve("snapshot-" + segment + ".dat");
+    }
+
+    private List<Long> numbered(String prefix, String suffix) throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, prefix + "*" + suffix)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    numbers.add(Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())));
+                } catch (NumberFormatException e) {
+                    log.warn("unknown journal file {}", file);
+                }
+            }
+        }
+        Collections.sort(numbers);
+        return numbers;
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("item snapshot failed", e);
+        }
+    }
+}
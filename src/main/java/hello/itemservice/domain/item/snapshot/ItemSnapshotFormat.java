@@ -0,0 +1,53 @@
+package hello.itemservice.domain.item.snapshot;
+
+/**
+ * 상품 스냅샷 바이너리 포맷 (big-endian)
+ *
+ * <pre>
+ * 헤더 32 bytes
+ *   int  magic          'ITMS'
+ *   int  version
+ *   long count          레코드 수
+ *   long namesOffset    상품명 영역 시작 위치
+ *   long reserved
+ * 레코드 40 bytes * count (id 오름차순)
+ *   long id
+ *   int  price          null 이면 Integer.MIN_VALUE
+ *   int  quantity       null 이면 Integer.MIN_VALUE
+ *   long nameOffset     상품명 영역 안에서의 위치
+ *   int  nameLength     null 이면 -1
+ *   int  reserved
+ *   long itemVersion    상품 버전 (낙관적 락)
+ * 상품명 영역
+ *   UTF-8 bytes
+ * </pre>
+ *
+ * 레코드 크기가 고정이므로 i 번째 상품은 파일을 처음부터 읽지 않고 바로 찾아갈 수 있다.
+ *
+ * version 1 파일은 레코드가 32 bytes 이고 상품 버전이 reserved 자리(28)의 int 이다. (읽기만 지원)
+ */
+final class ItemSnapshotFormat {
+
+    static final int MAGIC = 0x49544D53; // ITMS
+    static final int VERSION = 2;
+
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 40;
+
+    static final int ID = 0;
+    static final int PRICE = 8;
+    static final int QUANTITY = 12;
+    static final int NAME_OFFSET = 16;
+    static final int NAME_LENGTH = 24;
+    static final int ITEM_VERSION = 32;
+
+    static final int V1 = 1;
+    static final int V1_RECORD_SIZE = 32;
+    static final int V1_ITEM_VERSION = 28;
+
+    static final int NULL_VALUE = Integer.MIN_VALUE;
+    static final int NULL_NAME = -1;
+
+    private ItemSnapshotFormat() {
+    }
+}
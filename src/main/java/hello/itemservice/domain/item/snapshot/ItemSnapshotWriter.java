@@ -0,0 +1,144 @@
+package hello.itemservice.domain.item.snapshot;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemStore;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static hello.itemservice.domain.item.snapshot.ItemSnapshotFormat.*;
+
+/**
+ * 상품을 id 오름차순으로 받아 스냅샷 파일을 만든다.
+ * 전체 건수를 미리 알 필요가 없도록 레코드와 상품명을 각각 임시 파일에 쓰고 finish() 에서 합친다.
+ * 완성된 파일은 rename 으로 한 번에 나타나므로 쓰는 도중의 파일을 읽는 일은 없다.
+ */
+public class ItemSnapshotWriter implements Closeable {
+
+    private static final int PAGE_SIZE = 10_000;
+
+    private final Path file;
+    private final Path recordsTmp;
+    private final Path namesTmp;
+    private final DataOutputStream records;
+    private final DataOutputStream names;
+
+    private long count;
+    private long namesLength;
+    private long lastId;
+    private boolean finished;
+
+    public ItemSnapshotWriter(Path file) throws IOException {
+        this.file = file;
+        this.recordsTmp = file.resolveSibling(file.getFileName() + ".records.tmp");
+        this.namesTmp = file.resolveSibling(file.getFileName() + ".names.tmp");
+        this.records = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(recordsTmp), 64 * 1024));
+        this.names = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(namesTmp), 64 * 1024));
+    }
+
+    /**
+     * 저장소 전체를 id 순으로 페이지 단위로 읽어 스냅샷 파일로 저장
+     *
+     * @return 저장한 상품 수
+     */
+    public static long write(ItemStore store, Path file) throws IOException {
+        try (ItemSnapshotWriter writer = new ItemSnapshotWriter(file)) {
+            long cursor = 0L;
+            List<Item> page;
+            while (!(page = store.findAfter(cursor, PAGE_SIZE)).isEmpty()) {
+                for (Item item : page) {
+                    writer.write(item);
+                }
+                cursor = page.get(page.size() - 1).getId();
+            }
+            return writer.finish();
+        }
+    }
+
+    public void write(Item item) throws IOException {
+        long id = item.getId();
+        if (count > 0 && id <= lastId) {
+            throw new IllegalArgumentException("items must be written in ascending id order: " + lastId + " -> " + id);
+        }
+        lastId = id;
+
+        records.writeLong(id);
+        records.writeInt(item.getPrice() == null ? NULL_VALUE : item.getPrice());
+        records.writeInt(item.getQuantity() == null ? NULL_VALUE : item.getQuantity());
+        if (item.getItemName() == null) {
+            records.writeLong(0L);
+            records.writeInt(NULL_NAME);
+        } else {
+            byte[] name = item.getItemName().getBytes(StandardCharsets.UTF_8);
+            records.writeLong(namesLength);
+            records.writeInt(name.length);
+            names.write(name);
+            namesLength += name.length;
+        }
+        records.writeInt(0); // reserved
+        records.writeLong(item.getVersion() == null ? 0L : item.getVersion());
+        count++;
+    }
+
+    /**
+     * 헤더 + 레코드 + 상품명을 하나의 파일로 합치고 디스크에 기록
+     *
+     * @return 저장한 상품 수
+     */
+    public long finish() throws IOException {
+        records.close();
+        names.close();
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putLong(count)
+                    .putLong(HEADER_SIZE + count * RECORD_SIZE).putLong(0L);
+            header.flip();
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+            transfer(recordsTmp, out);
+            transfer(namesTmp, out);
+            out.force(true);
+        }
+        Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        finished = true;
+        deleteTemporaries();
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            records.close();
+            names.close();
+            deleteTemporaries();
+        }
+    }
+
+    private void transfer(Path source, FileChannel out) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long position = 0;
+            long size = in.size();
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    private void deleteTemporaries() throws IOException {
+        Files.deleteIfExists(recordsTmp);
+        Files.deleteIfExists(namesTmp);
+    }
+}
@@ -0,0 +1,161 @@
+package hello.itemservice.domain.item.snapshot;
+
+import hello.itemservice.domain.item.Item;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static hello.itemservice.domain.item.snapshot.ItemSnapshotFormat.*;
+
+/**
+ * 스냅샷 파일을 MappedByteBuffer 로 읽는다.
+ *
+ * 열 때는 헤더만 확인하고 파일 내용은 복사하지 않는다. (OS 페이지 캐시를 그대로 사용)
+ * Item 객체는 get / findById 로 접근할 때 해당 레코드만 읽어서 만든다.
+ * 따라서 여는 시간은 상품 수와 거의 관계가 없다.
+ *
+ * 레코드 영역, 상품명 영역은 각각 2GB 이하여야 한다. (레코드 약 5300만 건)
+ */
+public class MappedItemSnapshot implements Closeable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer records;
+    private final MappedByteBuffer names;
+    private final int size;
+    // version 1 파일은 레코드 크기와 상품 버전 위치가 다름
+    private final int recordSize;
+    private final boolean v1;
+
+    private MappedItemSnapshot(FileChannel channel, MappedByteBuffer records, MappedByteBuffer names, int size, int version) {
+        this.channel = channel;
+        this.records = records;
+        this.names = names;
+        this.size = size;
+        this.v1 = version == V1;
+        this.recordSize = v1 ? V1_RECORD_SIZE : RECORD_SIZE;
+    }
+
+    public static MappedItemSnapshot open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("not an item snapshot: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION && version != V1) {
+                throw new IOException("unsupported item snapshot version " + version + ": " + file);
+            }
+            long count = header.getLong();
+            long namesOffset = header.getLong();
+            long recordsLength = count * (version == V1 ? V1_RECORD_SIZE : RECORD_SIZE);
+            if (count < 0 || recordsLength > Integer.MAX_VALUE || namesOffset != HEADER_SIZE + recordsLength
+                    || namesOffset > channel.size() || channel.size() - namesOffset > Integer.MAX_VALUE) {
+                throw new IOException("corrupted item snapshot header: " + file);
+            }
+            MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, recordsLength);
+            MappedByteBuffer names = channel.map(FileChannel.MapMode.READ_ONLY, namesOffset, channel.size() - namesOffset);
+            return new MappedItemSnapshot(channel, records, names, (int) count, version);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * index 번째 상품의 id - Item 객체를 만들지 않음
+     */
+    public long idAt(int index) {
+        return records.getLong(recordOffset(index) + ID);
+    }
+
+    /**
+     * index 번째 상품 (id 오름차순)
+     */
+    public Item get(int index) {
+        int offset = recordOffset(index);
+        int price = records.getInt(offset + PRICE);
+        int quantity = records.getInt(offset + QUANTITY);
+        Item item = new Item(readName(offset),
+                price == NULL_VALUE ? null : price,
+                quantity == NULL_VALUE ? null : quantity);
+        item.setId(records.getLong(offset + ID));
+        item.setVersion(v1 ? records.getInt(offset + V1_ITEM_VERSION) : records.getLong(offset + ITEM_VERSION));
+        return item;
+    }
+
+    /**
+     * 레코드가 id 오름차순이므로 이진 탐색 - O(log n), 찾은 레코드 하나만 Item 으로 만듦
+     */
+    public Item findById(long id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = idAt(mid);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return get(mid);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * id 보다 큰 첫 번째 상품의 index (없으면 size) - 커서 페이지 조회의 시작 위치
+     */
+    public int indexAfter(long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (idAt(mid) <= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 매핑은 GC 될 때 해제되고, 여기서는 파일 채널만 닫는다.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private String readName(int recordOffset) {
+        int length = records.getInt(recordOffset + NAME_LENGTH);
+        if (length == NULL_NAME) {
+            return null;
+        }
+        int nameOffset = (int) records.getLong(recordOffset + NAME_OFFSET);
+        byte[] bytes = new byte[length];
+        ByteBuffer view = names.duplicate(); // 여러 스레드에서 읽어도 position 이 섞이지 않도록 복제본 사용
+        view.position(nameOffset);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int recordOffset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+        return index * recordSize;
+    }
+}
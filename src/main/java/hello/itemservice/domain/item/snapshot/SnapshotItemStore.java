@@ -0,0 +1,186 @@
+package hello.itemservice.domain.item.snapshot;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemStore;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스냅샷 파일(MappedItemSnapshot)을 그대로 읽고, 바뀐 상품만 overlay 저장소에 보관하는 ItemStore
+ *
+ * 시작할 때 상품을 하나도 복사하지 않으므로 여는 시간이 카탈로그 크기와 거의 관계없다.
+ * - 조회 : overlay 에 있으면 overlay, 없으면 스냅샷 레코드를 그때 Item 으로 만듦
+ * - 수정 : 스냅샷에만 있는 상품은 overlay 로 복사한 뒤 overlay 에서 수정 (같은 id 는 stripe 로 줄을 세움)
+ * - 저장 : 스냅샷의 마지막 id 다음부터 id 를 발급해서 overlay 에 넣음
+ * - 페이지 조회 : 스냅샷과 overlay 를 id 순으로 합침 (같은 id 는 overlay 가 우선)
+ * clearStore 이후에는 스냅샷을 읽지 않는다.
+ */
+public class SnapshotItemStore implements ItemStore, Closeable {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final MappedItemSnapshot snapshot;
+    private final ItemStore overlay;
+    private final AtomicLong sequence;
+    // overlay 로 복사되어 스냅샷과 겹치는 상품 수 (size 계산용)
+    private final AtomicInteger shadowed = new AtomicInteger();
+    private final Object[] stripes = new Object[64];
+    private volatile boolean cleared;
+
+    /**
+     * @param overlay 바뀐 상품을 보관할 빈 저장소 (id 는 이 클래스가 발급하고 overlay 에는 restore 로 넣음)
+     */
+    public SnapshotItemStore(MappedItemSnapshot snapshot, ItemStore overlay) {
+        this.snapshot = snapshot;
+        this.overlay = overlay;
+        this.sequence = new AtomicLong(snapshot.size() == 0 ? 0L : snapshot.idAt(snapshot.size() - 1));
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    @Override
+    public Item save(Item item) {
+        item.setId(sequence.incrementAndGet());
+        item.setVersion(0L);
+        overlay.restore(item);
+        return item;
+    }
+
+    @Override
+    public Item findById(Long id) {
+        Item item = overlay.findById(id);
+        return item != null ? item : findInSnapshot(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        List<Item> result = new ArrayList<>();
+        long cursor = 0L;
+        List<Item> page;
+        while (!(page = findAfter(cursor, PAGE_SIZE)).isEmpty()) {
+            result.addAll(page);
+            cursor = page.get(page.size() - 1).getId();
+        }
+        return result;
+    }
+
+    @Override
+    public List<Item> findPage(int offset, int limit) {
+        // 합친 순서에서 offset 만큼 건너뛰어야 하므로 커서 조회를 이어서 사용
+        List<Item> result = new ArrayList<>(limit);
+        int skipped = 0;
+        long cursor = 0L;
+        List<Item> page;
+        while (result.size() < limit && !(page = findAfter(cursor, PAGE_SIZE)).isEmpty()) {
+            for (Item item : page) {
+                if (skipped < offset) {
+                    skipped++;
+                } else if (result.size() < limit) {
+                    result.add(item);
+                }
+            }
+            cursor = page.get(page.size() - 1).getId();
+        }
+        return result;
+    }
+
+    @Override
+    public List<Item> findAfter(long afterId, int limit) {
+        // overlay 의 limit 개 안에 없는 id 는 결과의 limit 개 밖이므로 겹치는지는 이 목록만 보면 됨
+        List<Item> changed = overlay.findAfter(afterId, limit);
+        List<Item> result = new ArrayList<>(limit);
+        int index = cleared ? snapshot.size() : snapshot.indexAfter(afterId);
+        int next = 0;
+        while (result.size() < limit) {
+            long snapshotId = index < snapshot.size() ? snapshot.idAt(index) : Long.MAX_VALUE;
+            long changedId = next < changed.size() ? changed.get(next).getId() : Long.MAX_VALUE;
+            if (snapshotId == Long.MAX_VALUE && changedId == Long.MAX_VALUE) {
+                break;
+            }
+            if (changedId <= snapshotId) {
+                result.add(changed.get(next++));
+                if (changedId == snapshotId) {
+                    index++; // overlay 로 복사된 상품
+                }
+            } else {
+                result.add(snapshot.get(index++));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        synchronized (stripe(itemId)) {
+            copyToOverlay(itemId);
+            overlay.update(itemId, updateParam);
+        }
+    }
+
+    @Override
+    public boolean update(Long itemId, Item updateParam, long expectedVersion) {
+        synchronized (stripe(itemId)) {
+            copyToOverlay(itemId);
+            return overlay.update(itemId, updateParam, expectedVersion);
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        cleared = true;
+        overlay.clearStore();
+        shadowed.set(0);
+    }
+
+    @Override
+    public int size() {
+        return (cleared ? 0 : snapshot.size()) + overlay.size() - shadowed.get();
+    }
+
+    @Override
+    public void restore(Item item) {
+        synchronized (stripe(item.getId())) {
+            if (overlay.findById(item.getId()) == null && findInSnapshot(item.getId()) != null) {
+                shadowed.incrementAndGet();
+            }
+            overlay.restore(item);
+        }
+        sequence.accumulateAndGet(item.getId(), Math::max);
+    }
+
+    /**
+     * 스냅샷 파일 채널을 닫음 - 이미 만든 Item 은 계속 사용할 수 있음
+     */
+    @Override
+    public void close() throws IOException {
+        snapshot.close();
+        if (overlay instanceof Closeable) {
+            ((Closeable) overlay).close();
+        }
+    }
+
+    private void copyToOverlay(Long itemId) {
+        if (overlay.findById(itemId) != null) {
+            return;
+        }
+        Item item = findInSnapshot(itemId);
+        if (item != null) {
+            overlay.restore(item);
+            shadowed.incrementAndGet();
+        }
+    }
+
+    private Item findInSnapshot(Long id) {
+        return cleared ? null : snapshot.findById(id);
+    }
+
+    private Object stripe(Long itemId) {
+        return stripes[(int) (itemId & (stripes.length - 1))];
+    }
+}
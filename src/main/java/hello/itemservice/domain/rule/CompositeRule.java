@@ -0,0 +1,48 @@
+package hello.itemservice.domain.rule;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 필드를 조합한 복합 룰 (특정 필드가 아닌 오브젝트 오류)
+ *
+ * fields 의 값을 operation 으로 합친 결과가 min 이상, max 이하여야 한다. 어긋나면 code 로 reject 한다.
+ * 규칙 표(ValidationRules)에 code 와 같은 이름의 규칙이 있으면 min, max 대신 그 기준값을 사용한다. (ex. totalPriceMin.min=10000)
+ * 오류 인자는 {어긋난 기준값, 계산된 값} - ex) totalPriceMin : {10000, 9000}
+ *
+ * 계산은 long 으로 하고, long 도 넘으면 Long.MAX_VALUE / Long.MIN_VALUE 로 고정한다. (int 곱셈처럼 조용히 넘치지 않음)
+ * 필드 중 하나라도 null 이면 검사하지 않는다. (필드 검증에서 걸림)
+ *
+ * ex) @CompositeRule(code = "totalPriceMin", operation = PRODUCT, fields = {"price", "quantity"})
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(CompositeRule.List.class)
+public @interface CompositeRule {
+
+    String code();
+
+    Operation operation();
+
+    String[] fields();
+
+    long min() default Long.MIN_VALUE;
+
+    long max() default Long.MAX_VALUE;
+
+    enum Operation {
+        SUM, PRODUCT, MIN, MAX
+    }
+
+    @Documented
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface List {
+        CompositeRule[] value();
+    }
+}
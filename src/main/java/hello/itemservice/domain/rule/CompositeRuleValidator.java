@@ -0,0 +1,204 @@
+package hello.itemservice.domain.rule;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.Errors;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * 클래스에 선언된 @CompositeRule 을 검사
+ *
+ * 클래스별로 처음 한 번 애노테이션을 읽고 필드 getter(MethodHandle)를 만들어 둔다. (ClassValue)
+ * 요청마다 스크립트를 실행하던 @ScriptAssert 와 달리 검사는 long 연산뿐이고, 통과하면 아무것도 할당하지 않는다.
+ * 기준값은 검사할 때마다 규칙 표(ValidationRules)에서 읽으므로 표가 바뀌면 바로 반영된다.
+ * 필드 하나의 규칙(@FieldRule)은 Bean Validation 제약 조건이므로 @Validated 에서 검사된다.
+ */
+@Component
+public class CompositeRuleValidator {
+
+    private static final ClassValue<BoundRule[]> RULES = new ClassValue<>() {
+        @Override
+        protected BoundRule[] computeValue(Class<?> type) {
+            CompositeRule[] rules = type.getAnnotationsByType(CompositeRule.class);
+            BoundRule[] boundRules = new BoundRule[rules.length];
+            for (int i = 0; i < rules.length; i++) {
+                boundRules[i] = new BoundRule(type, rules[i]);
+            }
+            return boundRules;
+        }
+    };
+
+    private final ValidationRules validationRules;
+
+    /**
+     * classpath 기본 규칙 표 (테스트, 벤치마크)
+     */
+    public CompositeRuleValidator() {
+        this(ValidationRules.defaults());
+    }
+
+    @Autowired
+    public CompositeRuleValidator(ValidationRules validationRules) {
+        this.validationRules = validationRules;
+    }
+
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, false);
+    }
+
+    /**
+     * 첫 번째 오류에서 멈춤 (오류가 이미 있으면 검사하지 않음)
+     */
+    public void validateFailFast(Object target, Errors errors) {
+        if (!errors.hasErrors()) {
+            validate(target, errors, true);
+        }
+    }
+
+    private void validate(Object target, Errors errors, boolean failFast) {
+        BoundRule[] rules = RULES.get(target.getClass());
+        if (rules.length == 0) {
+            return;
+        }
+        // 한 객체를 검사하는 동안에는 같은 표를 씀 (도중에 교체되어도 섞이지 않음)
+        RuleTable table = validationRules.current();
+        for (BoundRule rule : rules) {
+            if (rule.validate(target, errors, table) && failFast) {
+                return;
+            }
+        }
+    }
+
+    public boolean hasRules(Class<?> type) {
+        return RULES.get(type).length > 0;
+    }
+
+    private static Number read(MethodHandle getter, Object target) {
+        try {
+            return (Number) (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle getter(Class<?> type, String fieldName) {
+        Field field = ReflectionUtils.findField(type, fieldName);
+        if (field == null) {
+            throw new IllegalStateException("@CompositeRule field not found " + type.getName() + "." + fieldName);
+        }
+        Class<?> fieldType = field.getType();
+        if (!Number.class.isAssignableFrom(fieldType) && !(fieldType.isPrimitive() && fieldType != boolean.class && fieldType != char.class)) {
+            throw new IllegalStateException("@CompositeRule field must be a number " + type.getName() + "." + fieldName);
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            return lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("cannot access " + field, e);
+        }
+    }
+
+    /**
+     * 클래스에 묶인 룰 하나 - fields 의 getter 와 애노테이션의 기준값을 미리 준비해 둠
+     * 규칙 표에 code 와 같은 이름의 규칙이 있으면 그 기준값을 사용
+     */
+    private static class BoundRule {
+
+        private final String code;
+        private final CompositeRule.Operation operation;
+        private final MethodHandle[] getters; // (Object) -> Object
+        private final long min;
+        private final long max;
+        private final Long minArg; // 실패할 때마다 박싱하지 않도록
+        private final Long maxArg;
+
+        BoundRule(Class<?> type, CompositeRule rule) {
+            if (rule.fields().length == 0) {
+                throw new IllegalStateException("@CompositeRule(code = " + rule.code() + ") on " + type.getName() + " has no fields");
+            }
+            this.code = rule.code();
+            this.operation = rule.operation();
+            this.getters = new MethodHandle[rule.fields().length];
+            for (int i = 0; i < getters.length; i++) {
+                getters[i] = getter(type, rule.fields()[i]);
+            }
+            this.min = rule.min();
+            this.max = rule.max();
+            this.minArg = min;
+            this.maxArg = max;
+        }
+
+        /**
+         * @return 오류를 남겼으면 true
+         */
+        boolean validate(Object target, Errors errors, RuleTable table) {
+            long result = 0L;
+            for (int i = 0; i < getters.length; i++) {
+                Number value = read(getters[i], target);
+                if (value == null) {
+                    return false;
+                }
+                long operand = value.longValue();
+                result = i == 0 ? operand : apply(result, operand);
+            }
+            Rule rule = table.get(code);
+            if (rule == null) {
+                if (result < min) {
+                    errors.reject(code, new Object[]{minArg, result}, null);
+                } else if (result > max) {
+                    errors.reject(code, new Object[]{maxArg, result}, null);
+                } else {
+                    return false;
+                }
+            } else if (result < rule.getMin()) {
+                errors.reject(code, new Object[]{rule.getMinArg(), result}, null);
+            } else if (result > rule.getMax()) {
+                errors.reject(code, new Object[]{rule.getMaxArg(), result}, null);
+            } else {
+                return false;
+            }
+            return true;
+        }
+
+        private long apply(long left, long right) {
+            switch (operation) {
+                case SUM:
+                    return saturatedAdd(left, right);
+                case PRODUCT:
+                    return saturatedMultiply(left, right);
+                case MIN:
+                    return Math.min(left, right);
+                case MAX:
+                    return Math.max(left, right);
+                default:
+                    throw new IllegalStateException("unknown operation " + operation);
+            }
+        }
+
+        private static long saturatedAdd(long left, long right) {
+            long result = left + right;
+            // 부호가 같은 두 수를 더했는데 부호가 바뀌면 넘친 것
+            if (((left ^ result) & (right ^ result)) < 0) {
+                return left < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+            }
+            return result;
+        }
+
+        private static long saturatedMultiply(long left, long right) {
+            long high = Math.multiplyHigh(left, right);
+            long low = left * right;
+            // 128비트 곱의 상위 64비트가 하위 64비트의 부호 확장이 아니면 넘친 것
+            if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+                return low;
+            }
+            return (left < 0) == (right < 0) ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package hello.itemservice.domain.rule;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 숫자 필드 하나를 규칙 표(ValidationRules)의 규칙으로 검사하는 Bean Validation 제약 조건 (FieldRuleValidator)
+ *
+ * 기준값은 애노테이션이 아니라 규칙 표에 있으므로 재시작 없이 바꿀 수 있다. (@Range, @Max 대신)
+ * @Validated 만으로 검사되고, FieldRuleValidatorFactoryBean 으로 검증하면 오류 코드와 인자도 규칙 표에서 만든다.
+ * ex) price.range=1000,1000000 -> 코드 range, 인자 {1000, 1000000} -> range.item.price
+ *
+ * 값이 null 이면 검사하지 않는다. (@NotNull 에서 걸림)
+ *
+ * ex) @FieldRule("price") private Integer price;
+ */
+@Documented
+@Constraint(validatedBy = FieldRuleValidator.class)
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FieldRule {
+
+    /**
+     * 규칙 이름 (validation-rules.properties 의 <규칙 이름>)
+     */
+    String value();
+
+    String message() default "허용 범위를 벗어났습니다.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
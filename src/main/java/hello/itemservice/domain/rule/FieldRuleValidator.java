@@ -0,0 +1,51 @@
+package hello.itemservice.domain.rule;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.metadata.ConstraintDescriptor;
+
+/**
+ * @FieldRule 검사 - 검사할 때마다 규칙 표의 현재 기준값을 읽으므로 표가 바뀌면 바로 반영된다.
+ *
+ * FieldRuleValidatorFactoryBean 은 자신의 ValidationRules 로 만들고,
+ * 기본 ValidatorFactory 는 기본 생성자(classpath 기본 규칙 표)로 만든다.
+ */
+public class FieldRuleValidator implements ConstraintValidator<FieldRule, Number> {
+
+    private final ValidationRules validationRules;
+    private String ruleName;
+
+    public FieldRuleValidator() {
+        this(DefaultRules.INSTANCE);
+    }
+
+    public FieldRuleValidator(ValidationRules validationRules) {
+        this.validationRules = validationRules;
+    }
+
+    @Override
+    public void initialize(FieldRule constraintAnnotation) {
+        this.ruleName = constraintAnnotation.value();
+    }
+
+    @Override
+    public boolean isValid(Number value, ConstraintValidatorContext context) {
+        return value == null || validationRules.current().require(ruleName).accepts(value.longValue());
+    }
+
+    /**
+     * @FieldRule 제약 조건이면 지금 규칙 표의 규칙, 아니면 null
+     * 오류 코드(range / min / max)와 오류 인자를 만들 때 사용
+     */
+    public static Rule ruleOf(ConstraintDescriptor<?> descriptor, ValidationRules validationRules) {
+        if (descriptor.getAnnotation().annotationType() != FieldRule.class) {
+            return null;
+        }
+        return validationRules.current().require(((FieldRule) descriptor.getAnnotation()).value());
+    }
+
+    // 기본 생성자로 만들 때마다 classpath 를 다시 읽지 않도록
+    private static class DefaultRules {
+        static final ValidationRules INSTANCE = ValidationRules.defaults();
+    }
+}
@@ -0,0 +1,32 @@
+package hello.itemservice.domain.rule;
+
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validator;
+import javax.validation.metadata.ConstraintDescriptor;
+
+/**
+ * FieldRuleValidatorFactoryBean 과 같은 코드, 인자로 @FieldRule 오류를 만드는 SpringValidatorAdapter
+ * 같은 ValidatorFactory 에서 설정만 바꾼 Validator (ex. fail-fast) 를 감쌀 때 사용
+ */
+public class FieldRuleValidatorAdapter extends SpringValidatorAdapter {
+
+    private final ValidationRules validationRules;
+
+    public FieldRuleValidatorAdapter(Validator targetValidator, ValidationRules validationRules) {
+        super(targetValidator);
+        this.validationRules = validationRules;
+    }
+
+    @Override
+    protected String determineErrorCode(ConstraintDescriptor<?> descriptor) {
+        Rule rule = FieldRuleValidator.ruleOf(descriptor, validationRules);
+        return rule != null ? rule.getCode() : super.determineErrorCode(descriptor);
+    }
+
+    @Override
+    protected Object[] getArgumentsForConstraint(String objectName, String field, ConstraintDescriptor<?> descriptor) {
+        Rule rule = FieldRuleValidator.ruleOf(descriptor, validationRules);
+        return rule != null ? rule.getArguments() : super.getArgumentsForConstraint(objectName, field, descriptor);
+    }
+}
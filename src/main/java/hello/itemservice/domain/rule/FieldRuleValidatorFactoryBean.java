@@ -0,0 +1,70 @@
+package hello.itemservice.domain.rule;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.metadata.ConstraintDescriptor;
+
+/**
+ * @FieldRule 오류를 ItemValidator 와 같은 코드, 인자로 만드는 LocalValidatorFactoryBean (ValidationConfig 에서 기본 Validator 로 등록)
+ *
+ * - 코드 : 애노테이션 이름(FieldRule) 대신 규칙 종류 (range / min / max) -> range.item.price
+ * - 인자 : [필드명, 속성...] 대신 규칙 표의 인자 -> {1000, 1000000}
+ * - FieldRuleValidator 는 이 빈의 ValidationRules 로 만든다. (다른 ConstraintValidator 는 기본 생성자)
+ * 다른 제약 조건은 LocalValidatorFactoryBean 과 같다.
+ */
+public class FieldRuleValidatorFactoryBean extends LocalValidatorFactoryBean {
+
+    private final ValidationRules validationRules;
+
+    /**
+     * classpath 기본 규칙 표 (테스트, 벤치마크)
+     */
+    public FieldRuleValidatorFactoryBean() {
+        this(ValidationRules.defaults());
+    }
+
+    public FieldRuleValidatorFactoryBean(ValidationRules validationRules) {
+        this.validationRules = validationRules;
+        setConstraintValidatorFactory(new RulesConstraintValidatorFactory(validationRules));
+    }
+
+    public ValidationRules getValidationRules() {
+        return validationRules;
+    }
+
+    @Override
+    protected String determineErrorCode(ConstraintDescriptor<?> descriptor) {
+        Rule rule = FieldRuleValidator.ruleOf(descriptor, validationRules);
+        return rule != null ? rule.getCode() : super.determineErrorCode(descriptor);
+    }
+
+    @Override
+    protected Object[] getArgumentsForConstraint(String objectName, String field, ConstraintDescriptor<?> descriptor) {
+        Rule rule = FieldRuleValidator.ruleOf(descriptor, validationRules);
+        return rule != null ? rule.getArguments() : super.getArgumentsForConstraint(objectName, field, descriptor);
+    }
+
+    private static class RulesConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+        private final ValidationRules validationRules;
+
+        RulesConstraintValidatorFactory(ValidationRules validationRules) {
+            this.validationRules = validationRules;
+        }
+
+        @Override
+        public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+            if (key == FieldRuleValidator.class) {
+                return key.cast(new FieldRuleValidator(validationRules));
+            }
+            return BeanUtils.instantiateClass(key);
+        }
+
+        @Override
+        public void releaseInstance(ConstraintValidator<?, ?> instance) {
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package hello.itemservice.domain.rule;
+
+/**
+ * 규칙 표(RuleTable)의 규칙 하나 - min 이상 max 이하
+ *
+ * 오류 인자는 errors.properties 의 메시지 형식과 같다.
+ * - range : {min, max} ex) range.item.price = 가격은 {0} ~ {1} 까지 허용합니다.
+ * - min : {min}
+ * - max : {max} ex) max.item.quantity = 수량은 최대 {0} 까지 허용합니다.
+ * 인자 배열은 미리 만들어 공유하므로 수정하면 안 된다.
+ */
+public final class Rule {
+
+    public enum Kind {
+        RANGE, MIN, MAX;
+
+        /**
+         * 필드 규칙의 오류 코드 (range / min / max)
+         */
+        public String code() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final String name;
+    private final Kind kind;
+    private final long min;
+    private final long max;
+    private final Long minArg; // 복합 규칙 오류 인자 {기준값, 계산된 값} 를 만들 때마다 박싱하지 않도록
+    private final Long maxArg;
+    private final Object[] arguments;
+
+    Rule(String name, Kind kind, long min, long max) {
+        if (min > max) {
+            throw new IllegalArgumentException("rule " + name + " min > max : " + min + " > " + max);
+        }
+        this.name = name;
+        this.kind = kind;
+        this.min = min;
+        this.max = max;
+        this.minArg = min;
+        this.maxArg = max;
+        switch (kind) {
+            case RANGE:
+                this.arguments = new Object[]{minArg, maxArg};
+                break;
+            case MIN:
+                this.arguments = new Object[]{minArg};
+                break;
+            default:
+                this.arguments = new Object[]{maxArg};
+        }
+    }
+
+    public boolean accepts(long value) {
+        return value >= min && value <= max;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getCode() {
+        return kind.code();
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public Long getMinArg() {
+        return minArg;
+    }
+
+    public Long getMaxArg() {
+        return maxArg;
+    }
+
+    public Object[] getArguments() {
+        return arguments;
+    }
+
+    /**
+     * 메시지 소스 없이 직접 만드는 오류 메시지 (ValidationItemControllerV1, V2 의 처음 버전)
+     * 규칙 종류에 맞춰 만들므로 규칙 표에서 종류를 바꿔도 메시지가 맞다.
+     * ex) describe("가격은") -> "가격은 1,000 ~ 1,000,000 까지 허용합니다."
+     */
+    public String describe(String subject) {
+        switch (kind) {
+            case RANGE:
+                return String.format("%s %,d ~ %,d 까지 허용합니다.", subject, min, max);
+            case MIN:
+                return String.format("%s 최소 %,d 이상이어야 합니다.", subject, min);
+            default:
+                return String.format("%s 최대 %,d까지 허용합니다.", subject, max);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name + "." + kind.code() + "=" + (kind == Kind.RANGE ? min + "," + max : kind == Kind.MIN ? min : max);
+    }
+}
@@ -0,0 +1,124 @@
+package hello.itemservice.domain.rule;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 검증 규칙 표 - 규칙 이름 -> Rule (만든 뒤에는 바뀌지 않음)
+ *
+ * 규칙을 바꿀 때는 새 표를 만들어 통째로 교체한다. (ValidationRules)
+ * 그래서 검증 중에는 lock 없이 읽어도 한 검증 안에서 항상 같은 표의 기준값을 본다.
+ *
+ * 형식 : <규칙 이름>.<종류>=<기준값>
+ * ex) price.range=1000,1000000 / quantity.max=9999 / totalPriceMin.min=10000
+ */
+public final class RuleTable {
+
+    public static final String DEFAULT_LOCATION = "validation-rules.properties";
+
+    private final Map<String, Rule> rules;
+
+    private RuleTable(Map<String, Rule> rules) {
+        this.rules = Collections.unmodifiableMap(rules);
+    }
+
+    /**
+     * classpath 의 validation-rules.properties
+     */
+    public static RuleTable loadDefaults() {
+        try {
+            return parse(PropertiesLoaderUtils.loadProperties(new ClassPathResource(DEFAULT_LOCATION)));
+        } catch (IOException e) {
+            throw new IllegalStateException("cannot load " + DEFAULT_LOCATION, e);
+        }
+    }
+
+    /**
+     * 형식이 틀리면 IllegalArgumentException (일부만 반영하지 않음)
+     */
+    public static RuleTable parse(Properties properties) {
+        Map<String, Rule> rules = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            int dot = key.lastIndexOf('.');
+            if (dot <= 0 || dot == key.length() - 1) {
+                throw new IllegalArgumentException("rule key must be <name>.<kind> : " + key);
+            }
+            String name = key.substring(0, dot);
+            Rule rule = compile(name, key.substring(dot + 1), properties.getProperty(key).trim());
+            if (rules.put(name, rule) != null) {
+                throw new IllegalArgumentException("duplicate rule : " + name);
+            }
+        }
+        return new RuleTable(rules);
+    }
+
+    private static Rule compile(String name, String kind, String value) {
+        Rule.Kind ruleKind = kindOf(name, kind);
+        try {
+            switch (ruleKind) {
+                case RANGE:
+                    int comma = value.indexOf(',');
+                    if (comma < 0) {
+                        throw new IllegalArgumentException("range rule must be <min>,<max> : " + name + "=" + value);
+                    }
+                    return new Rule(name, Rule.Kind.RANGE, Long.parseLong(value.substring(0, comma).trim()),
+                            Long.parseLong(value.substring(comma + 1).trim()));
+                case MIN:
+                    return new Rule(name, Rule.Kind.MIN, Long.parseLong(value), Long.MAX_VALUE);
+                default:
+                    return new Rule(name, Rule.Kind.MAX, Long.MIN_VALUE, Long.parseLong(value));
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("rule value must be a number : " + name + "." + kind + "=" + value, e);
+        }
+    }
+
+    private static Rule.Kind kindOf(String name, String kind) {
+        for (Rule.Kind ruleKind : Rule.Kind.values()) {
+            if (ruleKind.code().equals(kind)) {
+                return ruleKind;
+            }
+        }
+        throw new IllegalArgumentException("unknown rule kind (range / min / max) : " + name + "." + kind);
+    }
+
+    /**
+     * other 의 규칙으로 덮어쓴 새 표 (이 표는 그대로)
+     */
+    public RuleTable overlay(RuleTable other) {
+        Map<String, Rule> merged = new HashMap<>(rules);
+        merged.putAll(other.rules);
+        return new RuleTable(merged);
+    }
+
+    /**
+     * 없으면 null
+     */
+    public Rule get(String name) {
+        return rules.get(name);
+    }
+
+    public Rule require(String name) {
+        Rule rule = rules.get(name);
+        if (rule == null) {
+            throw new IllegalStateException("validation rule not found : " + name);
+        }
+        return rule;
+    }
+
+    public Collection<Rule> getRules() {
+        return rules.values();
+    }
+
+    @Override
+    public String toString() {
+        return rules.values().toString();
+    }
+}
@@ -0,0 +1,167 @@
+package hello.itemservice.domain.rule;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 지금 사용하는 검증 규칙 표 (ItemValidator, @FieldRule, @CompositeRule, V1 ~ V4 컨트롤러가 같은 표를 읽음)
+ *
+ * - 기본값은 classpath 의 validation-rules.properties
+ * - itemservice.rules.file 을 지정하면 그 파일의 규칙으로 덮어쓰고, reload-interval 마다 파일이 바뀌었는지 확인해서 다시 읽는다.
+ * - 새 표를 다 만든 뒤 참조만 바꾸므로 (copy-on-write) 검증은 lock 없이 current() 만 읽는다.
+ * - 파일 형식이 틀리면 이전 표를 그대로 사용하고, 파일이 다시 바뀌면 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class ValidationRules {
+
+    private final RuleTable defaults;
+    private final Path file;
+    private final AtomicReference<RuleTable> current;
+    private final ScheduledExecutorService reloadScheduler;
+    private final Object reloadLock = new Object(); // 다시 읽는 쪽끼리만 (스케줄러, reload() 호출)
+    private FileStamp loadedStamp;
+
+    @Autowired
+    public ValidationRules(@Value("${itemservice.rules.file:}") String file,
+                           @Value("${itemservice.rules.reload-interval:5s}") Duration reloadInterval) {
+        this.defaults = RuleTable.loadDefaults();
+        this.file = StringUtils.hasText(file) ? Paths.get(file) : null;
+        this.current = new AtomicReference<>(defaults);
+        if (this.file == null) {
+            this.reloadScheduler = null;
+            return;
+        }
+        reload(); // 시작할 때는 파일 형식이 틀리면 실패
+        this.reloadScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "validation-rules-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, reloadInterval.toMillis());
+        reloadScheduler.scheduleWithFixedDelay(this::reloadIfModified, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 파일 없이 고정된 표 (테스트, 벤치마크)
+     */
+    public ValidationRules(RuleTable table) {
+        this.defaults = table;
+        this.file = null;
+        this.current = new AtomicReference<>(table);
+        this.reloadScheduler = null;
+    }
+
+    public static ValidationRules defaults() {
+        return new ValidationRules(RuleTable.loadDefaults());
+    }
+
+    public RuleTable current() {
+        return current.get();
+    }
+
+    /**
+     * 파일을 지금 다시 읽어서 교체 - 형식이 틀리면 IllegalArgumentException (표는 그대로)
+     * 파일이 없으면 기본값으로 돌아감
+     */
+    public RuleTable reload() {
+        if (file == null) {
+            return current();
+        }
+        synchronized (reloadLock) {
+            FileStamp stamp = FileStamp.of(file);
+            loadedStamp = stamp;
+            RuleTable table = stamp == null ? defaults : defaults.overlay(parseFile());
+            current.set(table);
+            log.info("validation rules loaded file={} rules={}", file, table);
+            return table;
+        }
+    }
+
+    private void reloadIfModified() {
+        try {
+            synchronized (reloadLock) {
+                if (Objects.equals(FileStamp.of(file), loadedStamp)) {
+                    return;
+                }
+                reload();
+            }
+        } catch (RuntimeException e) {
+            // 다음 확인 때 파일이 그대로면 다시 읽지 않음 (고쳐서 저장하면 다시 읽음)
+            log.warn("validation rules reload failed, keep previous rules file={}", file, e);
+        }
+    }
+
+    private RuleTable parseFile() {
+        try {
+            return RuleTable.parse(PropertiesLoaderUtils.loadProperties(new FileSystemResource(file)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot read " + file, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reloadScheduler != null) {
+            reloadScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 파일이 바뀌었는지 - 수정 시각 + 크기 (파일이 없으면 null)
+     */
+    private static final class FileStamp {
+
+        private final FileTime lastModified;
+        private final long size;
+
+        private FileStamp(FileTime lastModified, long size) {
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        static FileStamp of(Path file) {
+            try {
+                return new FileStamp(Files.getLastModifiedTime(file), Files.size(file));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FileStamp)) {
+                return false;
+            }
+            FileStamp other = (FileStamp) o;
+            return size == other.size && lastModified.equals(other.lastModified);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModified, size);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package hello.itemservice.message;
+
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 완성된 메시지를 캐시하는 MessageSource (MessageConfig 에서 messageSource 빈으로 등록)
+ *
+ * 오류 메시지 하나를 만들 때마다 코드 목록(range.item.price, range.price, range.java.lang.Integer, range)을
+ * 순서대로 번들에서 찾고 MessageFormat 으로 인자를 채운다.
+ * (코드 목록, 인자, 기본 메시지, Locale) 가 같으면 결과도 같으므로 처음 한 번만 만들고 이후에는 캐시에서 꺼낸다.
+ *
+ * - 인자가 문자열 / 숫자 / DefaultMessageSourceResolvable 같은 값 객체일 때만 캐시한다.
+ * - 메시지를 찾지 못한 경우(NoSuchMessageException)는 캐시하지 않는다.
+ * - maxEntries 를 넘으면 더 이상 추가하지 않는다. (인자 조합이 계속 늘어날 수 있으므로)
+ */
+public class CachingMessageSource implements MessageSource {
+
+    private final MessageSource delegate;
+    private final int maxEntries;
+    private final ConcurrentMap<Key, String> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingMessageSource(MessageSource delegate, int maxEntries) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    @Nullable
+    public String getMessage(String code, @Nullable Object[] args, @Nullable String defaultMessage, Locale locale) {
+        if (!isCacheable(args)) {
+            return delegate.getMessage(code, args, defaultMessage, locale);
+        }
+        Key key = new Key(new String[]{code}, args, defaultMessage, true, locale);
+        String message = cache.get(key);
+        if (message != null) {
+            hits.increment();
+            return message;
+        }
+        misses.increment();
+        return put(key, delegate.getMessage(code, args, defaultMessage, locale));
+    }
+
+    @Override
+    public String getMessage(String code, @Nullable Object[] args, Locale locale) throws NoSuchMessageException {
+        if (!isCacheable(args)) {
+            return delegate.getMessage(code, args, locale);
+        }
+        Key key = new Key(new String[]{code}, args, null, false, locale);
+        String message = cache.get(key);
+        if (message != null) {
+            hits.increment();
+            return message;
+        }
+        misses.increment();
+        return put(key, delegate.getMessage(code, args, locale));
+    }
+
+    @Override
+    public String getMessage(MessageSourceResolvable resolvable, Locale locale) throws NoSuchMessageException {
+        String[] codes = resolvable.getCodes();
+        Object[] args = resolvable.getArguments();
+        if (codes == null || !isCacheable(args)) {
+            return delegate.getMessage(resolvable, locale);
+        }
+        // FieldError 자체는 rejectedValue 까지 비교하므로 메시지에 영향을 주는 값만 키로 사용
+        Key key = new Key(codes, args, resolvable.getDefaultMessage(), true, locale);
+        String message = cache.get(key);
+        if (message != null) {
+            hits.increment();
+            return message;
+        }
+        misses.increment();
+        return put(key, delegate.getMessage(resolvable, locale));
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private String put(Key key, @Nullable String message) {
+        if (message != null && cache.size() < maxEntries) {
+            cache.putIfAbsent(key, message);
+        }
+        return message;
+    }
+
+    private static boolean isCacheable(@Nullable Object[] args) {
+        if (args == null) {
+            return true;
+        }
+        for (Object arg : args) {
+            if (!isValue(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValue(@Nullable Object arg) {
+        if (arg == null || arg instanceof String || arg instanceof Integer || arg instanceof Long
+                || arg instanceof Short || arg instanceof Byte || arg instanceof Boolean || arg instanceof Character) {
+            return true;
+        }
+        // 필드명 인자 (SpringValidatorAdapter, ValidationPlan 이 넣는 값)
+        if (arg.getClass() == DefaultMessageSourceResolvable.class) {
+            return isCacheable(((DefaultMessageSourceResolvable) arg).getArguments());
+        }
+        return false;
+    }
+
+    private static final class Key {
+
+        private final String[] codes;
+        private final Object[] args;
+        private final String defaultMessage;
+        private final boolean useDefault;
+        private final Locale locale;
+        private final int hash;
+
+        Key(String[] codes, Object[] args, String defaultMessage, boolean useDefault, Locale locale) {
+            this.codes = codes;
+            this.args = args;
+            this.defaultMessage = defaultMessage;
+            this.useDefault = useDefault;
+            this.locale = locale;
+            this.hash = Objects.hash(Arrays.hashCode(codes), Arrays.hashCode(args), defaultMessage, useDefault, locale);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash && useDefault == other.useDefault
+                    && Arrays.equals(codes, other.codes) && Arrays.equals(args, other.args)
+                    && Objects.equals(defaultMessage, other.defaultMessage) && Objects.equals(locale, other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
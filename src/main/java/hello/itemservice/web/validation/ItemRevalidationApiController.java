@@ -0,0 +1,115 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.web.validation.batch.BatchError;
+import hello.itemservice.web.validation.batch.CatalogRevalidationJob;
+import hello.itemservice.web.validation.batch.CatalogRevalidationJob.Violation;
+import hello.itemservice.web.validation.batch.RevalidationStatus;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.json.ResponseEncoding;
+import hello.itemservice.web.validation.message.CachingMessageCodesResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.http.MediaType;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 전체 카탈로그 재검증 (CatalogRevalidationJob) 시작 / 멈춤 / 이어하기 / 진행 상황 / 위반 보고서
+ */
+@Slf4j
+@RestController
+@RequestMapping("/validation/api/revalidation")
+public class ItemRevalidationApiController {
+
+    private static final int REPORT_PAGE_SIZE = 1000;
+
+    private final CatalogRevalidationJob revalidationJob;
+    private final ObjectMapper objectMapper;
+    private final MessageSource messageSource;
+    private final MessageCodesResolver codesResolver = new CachingMessageCodesResolver(new DefaultMessageCodesResolver());
+
+    public ItemRevalidationApiController(CatalogRevalidationJob revalidationJob, ObjectMapper objectMapper, MessageSource messageSource) {
+        this.revalidationJob = revalidationJob;
+        this.objectMapper = objectMapper;
+        this.messageSource = messageSource;
+    }
+
+    @GetMapping
+    public RevalidationStatus status() {
+        return revalidationJob.status();
+    }
+
+    // after 를 지정하면 그 id 다음부터 검사 (이전 검사가 남긴 cursor 로 이어서 검사할 때)
+    @PostMapping("/start")
+    public RevalidationStatus start(@RequestParam(required = false) Long after) {
+        log.info("카탈로그 재검증 시작 after={}", after);
+        return revalidationJob.start(after);
+    }
+
+    @PostMapping("/pause")
+    public RevalidationStatus pause() {
+        return revalidationJob.pause();
+    }
+
+    @PostMapping("/resume")
+    public RevalidationStatus resume() {
+        return revalidationJob.resume();
+    }
+
+    // 위반 보고서 - 지금까지 찾은 위반 상품을 from 번째부터 NDJSON 으로 흘려 보냄
+    // 검사 중에도 조회할 수 있고, 받은 줄 수만큼 from 을 늘려서 다시 요청하면 새로 찾은 것만 받음
+    // {"itemId":3,"version":0,"errors":[{"field":"price","code":"range","message":"..."}]}
+    @GetMapping(value = "/violations", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void violations(@RequestParam(defaultValue = "0") int from, Locale locale,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (OutputStream out = ResponseEncoding.open(request, response);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            int next = Math.max(0, from);
+            List<Violation> page;
+            while (!(page = revalidationJob.violations(next, REPORT_PAGE_SIZE)).isEmpty()) {
+                for (Violation violation : page) {
+                    writeViolation(generator, violation, locale);
+                }
+                generator.flush();
+                next += page.size();
+            }
+        }
+    }
+
+    private void writeViolation(JsonGenerator generator, Violation violation, Locale locale) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("itemId", violation.getItemId());
+        generator.writeNumberField("version", violation.getVersion() == null ? 0L : violation.getVersion());
+        generator.writeArrayFieldStart("errors");
+        for (BatchError error : violation.getErrors()) {
+            generator.writeStartObject();
+            generator.writeStringField("field", error.getField());
+            generator.writeStringField("code", error.getCode());
+            // 재검증은 등록 폼(ItemSaveForm, 객체 이름 item)과 같은 규칙이므로 메시지도 같은 코드 목록으로 찾음
+            generator.writeStringField("message", messageSource.getMessage(
+                    error.resolvable("item", ItemSaveForm.class, codesResolver), locale));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -1,29 +1,173 @@
 package hello.itemservice.web.validation;
 
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.rule.CompositeRuleValidator;
+import hello.itemservice.web.validation.async.AsyncItemProcessor;
+import hello.itemservice.web.validation.bulk.BulkImportResult;
+import hello.itemservice.web.validation.bulk.ItemBulkImporter;
 import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.json.CompactError;
+import hello.itemservice.web.validation.json.ItemJsonWriter;
+import hello.itemservice.web.validation.json.ResponseEncoding;
+import hello.itemservice.web.validation.metrics.ValidationMetrics;
+import hello.itemservice.web.validation.plan.PlannedValidator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.http.MediaType;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequestMapping("/validation/api/items")
+@RequiredArgsConstructor
 public class ValidationItemApiController {
 
+    private final ItemBulkImporter itemBulkImporter;
+    private final ValidationMetrics validationMetrics;
+    private final AsyncItemProcessor asyncItemProcessor;
+    private final ItemRepository itemRepository;
+    private final ItemJsonWriter itemJsonWriter;
+    private final CompositeRuleValidator compositeRuleValidator;
+    private final PlannedValidator plannedValidator;
+    private final MessageSource messageSource;
+
+    // 읽기 API - 응답 DTO 를 만들지 않고 JsonGenerator 로 응답 스트림에 바로 씀
+    @GetMapping(value = "/{itemId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void item(@PathVariable long itemId, HttpServletResponse response) throws IOException {
+        Item item = itemRepository.findById(itemId);
+        if (item == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        itemJsonWriter.writeItem(item, response.getOutputStream()); // 작은 응답이므로 압축은 톰캣(server.compression)에 맡김
+    }
+
+    // 커서 페이지 목록 - after(마지막으로 받은 id) 다음부터 size 개, 응답의 nextCursor 로 다음 페이지 요청
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public void items(@RequestParam(required = false) Long after,
+                      @RequestParam(defaultValue = "" + ItemRepository.DEFAULT_PAGE_SIZE) int size,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (OutputStream out = ResponseEncoding.open(request, response)) {
+            itemJsonWriter.writePage(itemRepository.findAfter(after, size), out);
+        }
+    }
+
+    // 전체 내보내기 - NDJSON 으로 페이지마다 흘려 보냄 (gzip / deflate 지원)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("상품 내보내기 API 호출");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (OutputStream out = ResponseEncoding.open(request, response)) {
+            long count = itemJsonWriter.export(out);
+            log.info("상품 내보내기 완료 count={}", count);
+        }
+    }
+
     @PostMapping("/add")
     public Object addItem(@RequestBody @Validated ItemSaveForm form, BindingResult bindingResult) {
 
         log.info("API 컨트롤러 호출");
 
+        // 가격, 수량(@FieldRule)은 @Validated 에서, 가격 * 수량(@CompositeRule)은 여기서 규칙 표로 검증 (V4 addItem3 과 동일)
+        compositeRuleValidator.validate(form, bindingResult);
+
         if (bindingResult.hasErrors()) {
             log.info("검증 오류 발생 errors={}", bindingResult);
+            validationMetrics.countErrors(bindingResult); // 모델이 없으므로 인터셉터 대신 직접 기록
             return bindingResult.getAllErrors(); // bindingResult가 가지고 있는 모든 오류를 반환
         }
         log.info("성공 로직 실행");
         return form;
     }
+
+    // fail-fast 등록 - 헤더 X-Validation-Mode: fail-fast 또는 ?failFast=true 로 선택
+    // 첫 번째 오류에서 검증을 멈추고 그 오류 하나만 CompactError 로 반환 (성공하면 /add 와 같음)
+    // 잘못된 요청을 반복해서 보내는 클라이언트에 대해 검증 CPU 와 응답 크기를 줄임
+    @PostMapping(value = "/add", headers = "X-Validation-Mode=fail-fast")
+    public Object addItemFailFast(@RequestBody ItemSaveForm form, Locale locale) {
+        return addItemFailFastInternal(form, locale);
+    }
+
+    @PostMapping(value = "/add", params = "failFast=true")
+    public Object addItemFailFastParam(@RequestBody ItemSaveForm form, Locale locale) {
+        return addItemFailFastInternal(form, locale);
+    }
+
+    private Object addItemFailFastInternal(ItemSaveForm form, Locale locale) {
+
+        log.info("fail-fast API 컨트롤러 호출");
+
+        // @Validated 는 모든 오류를 모으므로 사용하지 않고 직접 검증 (Bean Validation -> 규칙 표 순서, 첫 오류에서 멈춤)
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        plannedValidator.validateFailFast(form, bindingResult);
+        compositeRuleValidator.validateFailFast(form, bindingResult);
+
+        if (bindingResult.hasErrors()) {
+            ObjectError error = bindingResult.getAllErrors().get(0);
+            log.info("검증 오류 발생 error={}", error.getCode());
+            validationMetrics.countError(error);
+            String field = error instanceof FieldError ? ((FieldError) error).getField() : null;
+            return new CompactError(field, error.getCode(), messageSource.getMessage(error, locale));
+        }
+        log.info("성공 로직 실행");
+        return form;
+    }
+
+    // 비동기 등록 - 검증과 저장을 itemTaskExecutor 에서 실행하고 요청 스레드는 바로 반환
+    // 성공하면 저장된 상품, 실패하면 /add 와 같은 오류 목록을 반환
+    @PostMapping("/add-async")
+    public CompletableFuture<Object> addItemAsync(@RequestBody ItemSaveForm form) {
+
+        log.info("비동기 API 컨트롤러 호출");
+
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        return asyncItemProcessor.save(form, bindingResult).thenApply(savedItem -> {
+            if (savedItem == null) {
+                log.info("검증 오류 발생 errors={}", bindingResult);
+                validationMetrics.countErrors(bindingResult);
+                return bindingResult.getAllErrors();
+            }
+            return savedItem;
+        });
+    }
+
+    // 대량 등록 - JSON 배열 또는 NDJSON 으로 ItemSaveForm 여러 개를 받아서 검증 후 저장
+    // 응답에는 저장된 수와, 실패한 상품의 순번(index)별 오류가 담김
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public BulkImportResult bulkImport(HttpServletRequest request, Locale locale) throws IOException {
+        log.info("대량 등록 API 호출");
+        return itemBulkImporter.importItems(request.getInputStream(), locale);
+    }
+
+    // 스트리밍 등록 - 본문을 모두 읽기 전에 도착한 상품부터 검증/저장하고, 상품별 결과를 NDJSON 으로 바로 응답
+    // 요청 본문 크기와 관계없이 서버 메모리 사용량이 일정함
+    @PostMapping(value = "/stream", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public void streamImport(HttpServletRequest request, HttpServletResponse response, Locale locale) throws IOException {
+        log.info("스트리밍 등록 API 호출");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        itemBulkImporter.importStream(request.getInputStream(), response.getOutputStream(), locale);
+    }
 }
@@ -1,17 +1,23 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemPage;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.rule.Rule;
+import hello.itemservice.domain.rule.RuleTable;
+import hello.itemservice.domain.rule.ValidationRules;
+import hello.itemservice.web.validation.cache.ItemConditionalRequests;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.HashMap;
-import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @Slf4j
@@ -21,17 +27,32 @@ import java.util.Map;
 public class ValidationItemControllerV1 {
 
     private final ItemRepository itemRepository;
+    private final ItemConditionalRequests itemConditionalRequests;
+    // 가격, 수량, 가격 * 수량의 기준값 (validation-rules.properties)
+    private final ValidationRules validationRules;
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size, Model model,
+                        Locale locale, ServletWebRequest webRequest) {
+        // 카탈로그가 바뀌지 않았으면 304 (템플릿을 렌더링하지 않음)
+        if (itemConditionalRequests.checkItemsNotModified(locale, webRequest)) {
+            return null;
+        }
+        // 전체 목록 대신 id 순 커서 페이지 조회 (after = 이전 페이지의 마지막 id)
+        ItemPage page = itemRepository.findAfter(after, size);
+        model.addAttribute("items", page.getItems());
+        model.addAttribute("page", page);
         return "validation/v1/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, Model model, Locale locale, ServletWebRequest webRequest) {
         Item item = itemRepository.findById(itemId);
+        // 상품이 바뀌지 않았으면 304 (템플릿을 렌더링하지 않음)
+        if (itemConditionalRequests.checkItemNotModified(item, locale, webRequest)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "validation/v1/item";
     }
@@ -47,25 +68,29 @@ public class ValidationItemControllerV1 {
 
         // 검증 오류 결과를 보관
         Map<String, String> errors = new HashMap<>();
+        RuleTable rules = validationRules.current(); // 기준값은 규칙 표에서 (요청 중에 표가 바뀌어도 이 요청은 같은 표)
+        Rule priceRule = rules.require("price");
+        Rule quantityRule = rules.require("quantity");
+        Rule totalPriceRule = rules.require("totalPriceMin");
 
         // 검증 로직
         if (!StringUtils.hasText(item.getItemName())) { // itemName이 비어있는지 확인
             errors.put("itemName", "상품 이름은 필수입니다.");
         }
 
-        if (item.getPrice() == null || item.getPrice() < 1000 || item.getPrice() > 1000000) { // 가격이 1,000 ~ 1,000,000 인지 확인
-            errors.put("price", "가격은 1,000 ~ 1,000,000 까지 허용합니다.");
+        if (item.getPrice() == null || !priceRule.accepts(item.getPrice())) { // 가격이 1,000 ~ 1,000,000 인지 확인
+            errors.put("price", priceRule.describe("가격은"));
         }
 
-        if (item.getQuantity() == null || item.getQuantity() >= 9999) { // 수량이 10,000개 이상인지 확인
-            errors.put("quantity", "수량은 최대 9,999까지 허용합니다.");
+        if (item.getQuantity() == null || !quantityRule.accepts(item.getQuantity())) { // 수량이 9,999개 이하인지 확인
+            errors.put("quantity", quantityRule.describe("수량은"));
         }
 
         // 특정 필드가 아닌 복합 룰 검증
         if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                errors.put("globalError", "가격 * 수량의 합은 10,000원 이상이어야 합니다. 현재 값 = " + resultPrice);
+            long resultPrice = (long) item.getPrice() * item.getQuantity();
+            if (resultPrice < totalPriceRule.getMin()) {
+                errors.put("globalError", String.format("가격 * 수량의 합은 %,d원 이상이어야 합니다. 현재 값 = %d", totalPriceRule.getMin(), resultPrice));
             }
         }
 
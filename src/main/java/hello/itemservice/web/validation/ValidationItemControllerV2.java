@@ -1,7 +1,13 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemPage;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.rule.CompositeRuleValidator;
+import hello.itemservice.domain.rule.Rule;
+import hello.itemservice.domain.rule.RuleTable;
+import hello.itemservice.domain.rule.ValidationRules;
+import hello.itemservice.web.validation.cache.ItemConditionalRequests;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -14,10 +20,11 @@ import org.springframework.validation.ValidationUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.HashMap;
-import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @Slf4j
@@ -27,7 +34,11 @@ import java.util.Map;
 public class ValidationItemControllerV2 {
 
     private final ItemRepository itemRepository;
+    private final ItemConditionalRequests itemConditionalRequests;
     private final ItemValidator itemValidator;
+    private final CompositeRuleValidator compositeRuleValidator;
+    // 가격, 수량, 가격 * 수량의 기준값 (validation-rules.properties)
+    private final ValidationRules validationRules;
 
     // 글로벌 설정해놓은 얜 필요 없어진다.
     @InitBinder // 이 컨트롤러 호출 될때마다 항상 불러짐
@@ -39,15 +50,27 @@ public class ValidationItemControllerV2 {
     }
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size, Model model,
+                        Locale locale, ServletWebRequest webRequest) {
+        // 카탈로그가 바뀌지 않았으면 304 (템플릿을 렌더링하지 않음)
+        if (itemConditionalRequests.checkItemsNotModified(locale, webRequest)) {
+            return null;
+        }
+        // 전체 목록 대신 id 순 커서 페이지 조회 (after = 이전 페이지의 마지막 id)
+        ItemPage page = itemRepository.findAfter(after, size);
+        model.addAttribute("items", page.getItems());
+        model.addAttribute("page", page);
         return "validation/v2/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, Model model, Locale locale, ServletWebRequest webRequest) {
         Item item = itemRepository.findById(itemId);
+        // 상품이 바뀌지 않았으면 304 (템플릿을 렌더링하지 않음)
+        if (itemConditionalRequests.checkItemNotModified(item, locale, webRequest)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "validation/v2/item";
     }
@@ -66,26 +89,31 @@ public class ValidationItemControllerV2 {
         // bindingResult 는 ModelAttribute 바로 뒤에 와야함 item 객체의 바인딩 결과를 담고 있기 때문에
         // bindingResult 가 없으면 400 에러가 발생하면서 컨트롤러 호출되지 않고, 오류 페이지로 이동함
 
+        RuleTable rules = validationRules.current(); // 기준값은 규칙 표에서 (요청 중에 표가 바뀌어도 이 요청은 같은 표)
+        Rule priceRule = rules.require("price");
+        Rule quantityRule = rules.require("quantity");
+        Rule totalPriceRule = rules.require("totalPriceMin");
+
         // 검증 로직
         if (!StringUtils.hasText(item.getItemName())) { // itemName이 비어있는지 확인
             bindingResult.addError(new FieldError("item", "itemName", "상품 이름은 필수입니다."));
         }
 
-        if (item.getPrice() == null || item.getPrice() < 1000 || item.getPrice() > 1000000) { // 가격이 1,000 ~ 1,000,000 인지 확인
-            bindingResult.addError(new FieldError("item", "price", "가격은 1,000 ~ 1,000,000 까지 허용합니다."));
+        if (item.getPrice() == null || !priceRule.accepts(item.getPrice())) { // 가격이 1,000 ~ 1,000,000 인지 확인
+            bindingResult.addError(new FieldError("item", "price", priceRule.describe("가격은")));
         }
 
-        if (item.getQuantity() == null || item.getQuantity() >= 9999) { // 수량이 10,000개 이상인지 확인
-            bindingResult.addError(new FieldError("item", "quantity", "수량은 최대 9,999까지 허용합니다."));
+        if (item.getQuantity() == null || !quantityRule.accepts(item.getQuantity())) { // 수량이 9,999개 이하인지 확인
+            bindingResult.addError(new FieldError("item", "quantity", quantityRule.describe("수량은")));
         }
 
         // 특정 필드가 아닌 복합 룰 검증
         if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
+            long resultPrice = (long) item.getPrice() * item.getQuantity();
+            if (resultPrice < totalPriceRule.getMin()) {
                 // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
                 // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-                bindingResult.addError(new ObjectError("item", "가격 * 수량의 합은 10,000원 이상이어야 합니다. 현재 값 = " + resultPrice));
+                bindingResult.addError(new ObjectError("item", String.format("가격 * 수량의 합은 %,d원 이상이어야 합니다. 현재 값 = %d", totalPriceRule.getMin(), resultPrice)));
             }
         }
 
@@ -111,6 +139,11 @@ public class ValidationItemControllerV2 {
         // bindingResult 는 ModelAttribute 바로 뒤에 와야함 item 객체의 바인딩 결과를 담고 있기 때문에
         // bindingResult 가 없으면 400 에러가 발생하면서 컨트롤러 호출되지 않고, 오류 페이지로 이동함
 
+        RuleTable rules = validationRules.current();
+        Rule priceRule = rules.require("price");
+        Rule quantityRule = rules.require("quantity");
+        Rule totalPriceRule = rules.require("totalPriceMin");
+
         // 검증 로직
         if (!StringUtils.hasText(item.getItemName())) { // itemName이 비어있는지 확인
 //            bindingResult.addError(new FieldError("item", "itemName", "상품 이름은 필수입니다."));
@@ -120,23 +153,23 @@ public class ValidationItemControllerV2 {
 
         }
 
-        if (item.getPrice() == null || item.getPrice() < 1000 || item.getPrice() > 1000000) { // 가격이 1,000 ~ 1,000,000 인지 확인
+        if (item.getPrice() == null || !priceRule.accepts(item.getPrice())) { // 가격이 1,000 ~ 1,000,000 인지 확인
 //            bindingResult.addError(new FieldError("item", "price", "가격은 1,000 ~ 1,000,000 까지 허용합니다."));
-            bindingResult.addError(new FieldError("item", "price", item.getPrice(), false, null, null, "가격은 1,000 ~ 1,000,000 까지 허용합니다."));
+            bindingResult.addError(new FieldError("item", "price", item.getPrice(), false, null, null, priceRule.describe("가격은")));
         }
 
-        if (item.getQuantity() == null || item.getQuantity() >= 9999) { // 수량이 10,000개 이상인지 확인
+        if (item.getQuantity() == null || !quantityRule.accepts(item.getQuantity())) { // 수량이 9,999개 이하인지 확인
 //            bindingResult.addError(new FieldError("item", "quantity", "수량은 최대 9,999까지 허용합니다."));
-            bindingResult.addError(new FieldError("item", "quantity", item.getQuantity(), false, null, null, "수량은 최대 9,999까지 허용합니다."));
+            bindingResult.addError(new FieldError("item", "quantity", item.getQuantity(), false, null, null, quantityRule.describe("수량은")));
         }
 
         // 특정 필드가 아닌 복합 룰 검증
         if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
+            long resultPrice = (long) item.getPrice() * item.getQuantity();
+            if (resultPrice < totalPriceRule.getMin()) {
                 // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
                 // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-                bindingResult.addError(new ObjectError("item", null, null, "가격 * 수량의 합은 10,000원 이상이어야 합니다. 현재 값 = " + resultPrice));
+                bindingResult.addError(new ObjectError("item", null, null, String.format("가격 * 수량의 합은 %,d원 이상이어야 합니다. 현재 값 = %d", totalPriceRule.getMin(), resultPrice)));
             }
         }
 
@@ -165,6 +198,11 @@ public class ValidationItemControllerV2 {
         log.info("objectName={}", bindingResult.getObjectName()); // Item
         log.info("target={}", bindingResult.getTarget()); // Item 객체의 값
 
+        RuleTable rules = validationRules.current();
+        Rule priceRule = rules.require("price");
+        Rule quantityRule = rules.require("quantity");
+        Rule totalPriceRule = rules.require("totalPriceMin");
+
         // 검증 로직
         if (!StringUtils.hasText(item.getItemName())) { // itemName이 비어있는지 확인
 //            bindingResult.addError(new FieldError("item", "itemName", "상품 이름은 필수입니다."));
@@ -174,23 +212,24 @@ public class ValidationItemControllerV2 {
 
         }
 
-        if (item.getPrice() == null || item.getPrice() < 1000 || item.getPrice() > 1000000) { // 가격이 1,000 ~ 1,000,000 인지 확인
+        if (item.getPrice() == null || !priceRule.accepts(item.getPrice())) { // 가격이 1,000 ~ 1,000,000 인지 확인
 //            bindingResult.addError(new FieldError("item", "price", "가격은 1,000 ~ 1,000,000 까지 허용합니다."));
-            bindingResult.addError(new FieldError("item", "price", item.getPrice(), false, new String[]{"range.item.price"}, new Object[]{1000, 1000000}, null));
+            // 오류 코드는 규칙 종류에서 (range -> range.item.price, range.price, range.java.lang.Integer, range)
+            bindingResult.addError(new FieldError("item", "price", item.getPrice(), false, bindingResult.resolveMessageCodes(priceRule.getCode(), "price"), priceRule.getArguments(), null));
         }
 
-        if (item.getQuantity() == null || item.getQuantity() >= 9999) { // 수량이 10,000개 이상인지 확인
+        if (item.getQuantity() == null || !quantityRule.accepts(item.getQuantity())) { // 수량이 9,999개 이하인지 확인
 //            bindingResult.addError(new FieldError("item", "quantity", "수량은 최대 9,999까지 허용합니다."));
-            bindingResult.addError(new FieldError("item", "quantity", item.getQuantity(), false, new String[]{"max.item.quantity"}, new Object[]{9999}, null));
+            bindingResult.addError(new FieldError("item", "quantity", item.getQuantity(), false, bindingResult.resolveMessageCodes(quantityRule.getCode(), "quantity"), quantityRule.getArguments(), null));
         }
 
         // 특정 필드가 아닌 복합 룰 검증
         if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
+            long resultPrice = (long) item.getPrice() * item.getQuantity();
+            if (resultPrice < totalPriceRule.getMin()) {
                 // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
                 // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
+                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{totalPriceRule.getMinArg(), resultPrice}, null));
             }
         }
 
@@ -219,6 +258,10 @@ public class ValidationItemControllerV2 {
         log.info("objectName={}", bindingResult.getObjectName()); // Item
         log.info("target={}", bindingResult.getTarget()); // Item 객체의 값
 
+        RuleTable rules = validationRules.current();
+        Rule priceRule = rules.require("price");
+        Rule quantityRule = rules.require("quantity");
+
         // rejectValue 는 field, reject 는 object
 
         ValidationUtils.rejectIfEmptyOrWhitespace(bindingResult, "itemName", "required");
@@ -235,28 +278,20 @@ public class ValidationItemControllerV2 {
         }
 */
 
-        if (item.getPrice() == null || item.getPrice() < 1000 || item.getPrice() > 1000000) { // 가격이 1,000 ~ 1,000,000 인지 확인
+        if (item.getPrice() == null || !priceRule.accepts(item.getPrice())) { // 가격이 1,000 ~ 1,000,000 인지 확인
 //            bindingResult.addError(new FieldError("item", "price", "가격은 1,000 ~ 1,000,000 까지 허용합니다."));
 //            bindingResult.addError(new FieldError("item", "price", item.getPrice(), false, new String[]{"range.item.price"}, new Object[]{1000, 1000000}, null));
-            bindingResult.rejectValue("price", "range", new Object[]{1000, 1000000}, null);
+            bindingResult.rejectValue("price", priceRule.getCode(), priceRule.getArguments(), null);
         }
 
-        if (item.getQuantity() == null || item.getQuantity() >= 9999) { // 수량이 10,000개 이상인지 확인
+        if (item.getQuantity() == null || !quantityRule.accepts(item.getQuantity())) { // 수량이 9,999개 이하인지 확인
 //            bindingResult.addError(new FieldError("item", "quantity", "수량은 최대 9,999까지 허용합니다."));
 //            bindingResult.addError(new FieldError("item", "quantity", item.getQuantity(), false, new String[]{"max.item.quantity"}, new Object[]{9999}, null));
-            bindingResult.rejectValue("quantity", "max", new Object[]{9999}, null);
+            bindingResult.rejectValue("quantity", quantityRule.getCode(), quantityRule.getArguments(), null);
         }
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
-                // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-//                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (가격 * 수량의 합이 10,000원 이상) -> ObjectError 로 남김
+        compositeRuleValidator.validate(item, bindingResult);
 
         // 검증에 실패하면 다시 입력 폼으로
         if (bindingResult.hasErrors()) {
@@ -1,9 +1,12 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemPage;
 import hello.itemservice.domain.item.ItemRepository;
 import hello.itemservice.domain.item.SaveCheck;
 import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.domain.rule.CompositeRuleValidator;
+import hello.itemservice.web.validation.cache.ItemConditionalRequests;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -11,9 +14,10 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
+import java.util.Locale;
 
 @Slf4j
 @Controller
@@ -22,17 +26,31 @@ import java.util.List;
 public class ValidationItemControllerV3 {
 
     private final ItemRepository itemRepository;
+    private final ItemConditionalRequests itemConditionalRequests;
+    private final CompositeRuleValidator compositeRuleValidator;
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size, Model model,
+                        Locale locale, ServletWebRequest webRequest) {
+        // 카탈로그가 바뀌지 않았으면 304 (템플릿을 렌더링하지 않음)
+        if (itemConditionalRequests.checkItemsNotModified(locale, webRequest)) {
+            return null;
+        }
+        // 전체 목록 대신 id 순 커서 페이지 조회 (after = 이전 페이지의 마지막 id)
+        ItemPage page = itemRepository.findAfter(after, size);
+        model.addAttribute("items", page.getItems());
+        model.addAttribute("page", page);
         return "validation/v3/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, Model model, Locale locale, ServletWebRequest webRequest) {
         Item item = itemRepository.findById(itemId);
+        // 상품이 바뀌지 않았으면 304 (템플릿을 렌더링하지 않음)
+        if (itemConditionalRequests.checkItemNotModified(item, locale, webRequest)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "validation/v3/item";
     }
@@ -54,16 +72,8 @@ public class ValidationItemControllerV3 {
         // bindingResult 는 ModelAttribute 바로 뒤에 와야함 item 객체의 바인딩 결과를 담고 있기 때문에
         // bindingResult 가 없으면 400 에러가 발생하면서 컨트롤러 호출되지 않고, 오류 페이지로 이동함
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
-                // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-//                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (가격 * 수량의 합이 10,000원 이상) -> ObjectError 로 남김
+        compositeRuleValidator.validate(item, bindingResult);
 
         // 검증에 실패하면 다시 입력 폼으로
         if (bindingResult.hasErrors()) {
@@ -90,16 +100,8 @@ public class ValidationItemControllerV3 {
         // bindingResult 는 ModelAttribute 바로 뒤에 와야함 item 객체의 바인딩 결과를 담고 있기 때문에
         // bindingResult 가 없으면 400 에러가 발생하면서 컨트롤러 호출되지 않고, 오류 페이지로 이동함
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
-                // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-//                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (가격 * 수량의 합이 10,000원 이상) -> ObjectError 로 남김
+        compositeRuleValidator.validate(item, bindingResult);
 
         // 검증에 실패하면 다시 입력 폼으로
         if (bindingResult.hasErrors()) {
@@ -126,16 +128,8 @@ public class ValidationItemControllerV3 {
 //    @PostMapping("/{itemId}/edit")
     public String edit(@PathVariable Long itemId, @Validated @ModelAttribute Item item, BindingResult bindingResult) {
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
-                // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-//                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (가격 * 수량의 합이 10,000원 이상) -> ObjectError 로 남김
+        compositeRuleValidator.validate(item, bindingResult);
 
         if (bindingResult.hasErrors()) {
             log.info("errors = {}", bindingResult);
@@ -150,16 +144,8 @@ public class ValidationItemControllerV3 {
     @PostMapping("/{itemId}/edit")
     public String editV2(@PathVariable Long itemId, @Validated(UpdateCheck.class) @ModelAttribute Item item, BindingResult bindingResult) {
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
-                // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-//                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (가격 * 수량의 합이 10,000원 이상) -> ObjectError 로 남김
+        compositeRuleValidator.validate(item, bindingResult);
 
         if (bindingResult.hasErrors()) {
             log.info("errors = {}", bindingResult);
@@ -1,9 +1,15 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemPage;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSearchCond;
 import hello.itemservice.domain.item.SaveCheck;
 import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.domain.rule.CompositeRuleValidator;
+import hello.itemservice.web.validation.async.AsyncItemProcessor;
+import hello.itemservice.web.validation.cache.ItemConditionalRequests;
+import hello.itemservice.web.validation.cache.ItemRowCache;
 import hello.itemservice.web.validation.form.ItemSaveForm;
 import hello.itemservice.web.validation.form.ItemUpdateForm;
 import lombok.RequiredArgsConstructor;
@@ -13,9 +19,12 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Controller
@@ -24,17 +33,46 @@ import java.util.List;
 public class ValidationItemControllerV4 {
 
     private final ItemRepository itemRepository;
+    private final ItemConditionalRequests itemConditionalRequests;
+    private final ItemRowCache itemRowCache;
+    private final CompositeRuleValidator compositeRuleValidator;
+    private final AsyncItemProcessor asyncItemProcessor;
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
+    public String items(@RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size, Model model,
+                        Locale locale, ServletWebRequest webRequest) {
+        // 카탈로그가 바뀌지 않았으면 304 (템플릿을 렌더링하지 않음)
+        if (itemConditionalRequests.checkItemsNotModified(locale, webRequest)) {
+            return null;
+        }
+        // 전체 목록 대신 id 순 커서 페이지 조회 (after = 이전 페이지의 마지막 id)
+        ItemPage page = itemRepository.findAfter(after, size);
+        model.addAttribute("items", page.getItems());
+        model.addAttribute("itemRows", itemRowCache.render(page.getItems(), locale));
+        model.addAttribute("page", page);
+        return "validation/v4/items";
+    }
+
+    // 보조 인덱스 검색 - 상품명 접두사, 가격 범위, 최대 수량(재고 부족)
+    // ex) /validation/v4/items/search?itemName=item&priceMin=1000&priceMax=20000
+    @GetMapping("/search")
+    public String search(@ModelAttribute("itemSearch") ItemSearchCond cond,
+                         @RequestParam(defaultValue = "20") int size, Model model, Locale locale) {
+        List<Item> items = itemRepository.search(cond, size);
         model.addAttribute("items", items);
+        model.addAttribute("itemRows", itemRowCache.render(items, locale));
+        model.addAttribute("page", new ItemPage(items, size, null));
         return "validation/v4/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, Model model, Locale locale, ServletWebRequest webRequest) {
         Item item = itemRepository.findById(itemId);
+        // 상품이 바뀌지 않았으면 304 (템플릿을 렌더링하지 않음)
+        if (itemConditionalRequests.checkItemNotModified(item, locale, webRequest)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "validation/v4/item";
     }
@@ -56,16 +94,8 @@ public class ValidationItemControllerV4 {
         // bindingResult 는 ModelAttribute 바로 뒤에 와야함 item 객체의 바인딩 결과를 담고 있기 때문에
         // bindingResult 가 없으면 400 에러가 발생하면서 컨트롤러 호출되지 않고, 오류 페이지로 이동함
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
-                // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-//                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (가격 * 수량의 합이 10,000원 이상) -> ObjectError 로 남김
+        compositeRuleValidator.validate(item, bindingResult);
 
         // 검증에 실패하면 다시 입력 폼으로
         if (bindingResult.hasErrors()) {
@@ -92,16 +122,8 @@ public class ValidationItemControllerV4 {
         // bindingResult 는 ModelAttribute 바로 뒤에 와야함 item 객체의 바인딩 결과를 담고 있기 때문에
         // bindingResult 가 없으면 400 에러가 발생하면서 컨트롤러 호출되지 않고, 오류 페이지로 이동함
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
-                // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-//                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (가격 * 수량의 합이 10,000원 이상) -> ObjectError 로 남김
+        compositeRuleValidator.validate(item, bindingResult);
 
         // 검증에 실패하면 다시 입력 폼으로
         if (bindingResult.hasErrors()) {
@@ -120,7 +142,7 @@ public class ValidationItemControllerV4 {
     // @Validated 를 사용하면 @ModelAttribute 에서 바로 검증을 할 수 있음
     // -> @ModelAttribute 에서 검증을 하고, 바로 BindingResult 로 결과를 받을 수 있음
     // @Valid 사용가능 -> build.gradle 에서 spring-boot-starter-validation 의존성 추가 필요
-    @PostMapping("/add")
+//    @PostMapping("/add")
     public String addItem3(@Validated @ModelAttribute("item") ItemSaveForm form, BindingResult bindingResult, RedirectAttributes redirectAttributes) {
 
         // item 의 바인딩 된 결과가 bindingResult 에 담겨있음
@@ -128,16 +150,8 @@ public class ValidationItemControllerV4 {
         // bindingResult 는 ModelAttribute 바로 뒤에 와야함 item 객체의 바인딩 결과를 담고 있기 때문에
         // bindingResult 가 없으면 400 에러가 발생하면서 컨트롤러 호출되지 않고, 오류 페이지로 이동함
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (form.getPrice() != null && form.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = form.getPrice() * form.getQuantity();
-            if (resultPrice < 10000) {
-                // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
-                // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-//                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (가격 * 수량의 합이 10,000원 이상) -> ObjectError 로 남김
+        compositeRuleValidator.validate(form, bindingResult);
 
         // 검증에 실패하면 다시 입력 폼으로
         if (bindingResult.hasErrors()) {
@@ -159,7 +173,24 @@ public class ValidationItemControllerV4 {
         return "redirect:/validation/v4/items/{itemId}";
     }
 
+    // 비동기 처리 - 요청 스레드에서는 바인딩만 하고, 검증과 저장은 itemTaskExecutor 에서 실행
+    // 저장소가 느려져도 톰캣 워커 스레드는 바로 반환되고, 완료되면 다시 디스패치해서 뷰를 렌더링함
+    // @Validated 를 붙이면 요청 스레드에서 검증하므로 붙이지 않음 (AsyncItemProcessor 에서 같은 검증을 실행)
+    @PostMapping("/add")
+    public CompletableFuture<String> addItemAsync(@ModelAttribute("item") ItemSaveForm form, BindingResult bindingResult, RedirectAttributes redirectAttributes) {
 
+        return asyncItemProcessor.save(form, bindingResult).thenApply(savedItem -> {
+            // 검증에 실패하면 다시 입력 폼으로
+            if (savedItem == null) {
+                log.info("errors = {}", bindingResult);
+                return "validation/v4/addForm";
+            }
+
+            redirectAttributes.addAttribute("itemId", savedItem.getId());
+            redirectAttributes.addAttribute("status", true);
+            return "redirect:/validation/v4/items/{itemId}";
+        });
+    }
 
     @GetMapping("/{itemId}/edit")
     public String editForm(@PathVariable Long itemId, Model model) {
@@ -171,16 +202,8 @@ public class ValidationItemControllerV4 {
 //    @PostMapping("/{itemId}/edit")
     public String edit(@PathVariable Long itemId, @Validated @ModelAttribute Item item, BindingResult bindingResult) {
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
-                // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-//                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (가격 * 수량의 합이 10,000원 이상) -> ObjectError 로 남김
+        compositeRuleValidator.validate(item, bindingResult);
 
         if (bindingResult.hasErrors()) {
             log.info("errors = {}", bindingResult);
@@ -195,16 +218,8 @@ public class ValidationItemControllerV4 {
 //    @PostMapping("/{itemId}/edit")
     public String editV2(@PathVariable Long itemId, @Validated(UpdateCheck.class) @ModelAttribute Item item, BindingResult bindingResult) {
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
-                // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-//                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (가격 * 수량의 합이 10,000원 이상) -> ObjectError 로 남김
+        compositeRuleValidator.validate(item, bindingResult);
 
         if (bindingResult.hasErrors()) {
             log.info("errors = {}", bindingResult);
@@ -216,19 +231,11 @@ public class ValidationItemControllerV4 {
         return "redirect:/validation/v4/items/{itemId}";
     }
 
-    @PostMapping("/{itemId}/edit")
+//    @PostMapping("/{itemId}/edit")
     public String editV3(@PathVariable Long itemId, @Validated @ModelAttribute("item") ItemUpdateForm form, BindingResult bindingResult) {
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (form.getPrice() != null && form.getQuantity() != null) { // 가격 * 수량의 합이 10,000원 이상인지 확인
-            int resultPrice = form.getPrice() * form.getQuantity();
-            if (resultPrice < 10000) {
-                // 특정 필드가 아닌 복합 룰 검증은 FieldError 가 아닌 ObjectError 를 사용해야 함
-                // ObjectError 의 생성자에 들어가는 첫번째 파라미터는 objectName 이어야 함
-//                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (가격 * 수량의 합이 10,000원 이상) -> ObjectError 로 남김
+        compositeRuleValidator.validate(form, bindingResult);
 
         if (bindingResult.hasErrors()) {
             log.info("errors = {}", bindingResult);
@@ -245,5 +252,17 @@ public class ValidationItemControllerV4 {
         return "redirect:/validation/v4/items/{itemId}";
     }
 
-}
+    // 비동기 처리 - 검증과 수정은 itemTaskExecutor 에서 실행
+    @PostMapping("/{itemId}/edit")
+    public CompletableFuture<String> editAsync(@PathVariable Long itemId, @ModelAttribute("item") ItemUpdateForm form, BindingResult bindingResult) {
 
+        return asyncItemProcessor.update(itemId, form, bindingResult).thenApply(updated -> {
+            if (!updated) {
+                log.info("errors = {}", bindingResult);
+                return "validation/v4/editForm";
+            }
+            return "redirect:/validation/v4/items/{itemId}";
+        });
+    }
+
+}
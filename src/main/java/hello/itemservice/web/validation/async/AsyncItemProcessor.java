@@ -0,0 +1,86 @@
+package hello.itemservice.web.validation.async;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.rule.CompositeRuleValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import hello.itemservice.web.validation.metrics.MeteredValidator;
+import hello.itemservice.web.validation.metrics.ValidationMetrics;
+import hello.itemservice.web.validation.plan.PlannedValidator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 핸들러용 검증 + 저장
+ *
+ * 요청 스레드에서는 바인딩만 하고, 검증(@Validated 와 같은 검증 + 복합 룰)과 저장은 itemTaskExecutor 에서 실행한다.
+ * 반환된 CompletableFuture 가 완료되면 Spring MVC 가 결과로 다시 디스패치한다.
+ */
+@Component
+public class AsyncItemProcessor {
+
+    private final AsyncTaskExecutor executor;
+    private final SmartValidator validator;
+    private final CompositeRuleValidator compositeRuleValidator;
+    private final ItemRepository itemRepository;
+
+    public AsyncItemProcessor(@Qualifier("itemTaskExecutor") AsyncTaskExecutor executor, PlannedValidator plannedValidator,
+                              ValidationMetrics validationMetrics, CompositeRuleValidator compositeRuleValidator,
+                              ItemRepository itemRepository) {
+        this.executor = executor;
+        this.validator = new MeteredValidator(plannedValidator, validationMetrics);
+        this.compositeRuleValidator = compositeRuleValidator;
+        this.itemRepository = itemRepository;
+    }
+
+    /**
+     * 검증을 통과하면 저장
+     *
+     * @return 저장된 상품, 검증 오류가 있으면 null (오류는 errors 에 담김)
+     */
+    public CompletableFuture<Item> save(ItemSaveForm form, Errors errors) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (!validate(form, errors)) {
+                return null;
+            }
+            return itemRepository.save(new Item(form.getItemName(), form.getPrice(), form.getQuantity()));
+        }, executor);
+    }
+
+    /**
+     * 검증을 통과하면 수정 - 폼의 버전(필수)일 때만 수정 (낙관적 락)
+     *
+     * @return 수정했으면 true, 검증 오류, 상품 없음, 버전 충돌이면 false (오류는 errors 에 담김)
+     */
+    public CompletableFuture<Boolean> update(Long itemId, ItemUpdateForm form, Errors errors) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (!validate(form, errors)) {
+                return false;
+            }
+            Item updateParam = new Item(form.getItemName(), form.getPrice(), form.getQuantity());
+            if (!itemRepository.update(itemId, updateParam, form.getVersion())) {
+                if (itemRepository.findById(itemId) == null) {
+                    errors.reject("itemNotFound");
+                } else {
+                    // 폼을 연 뒤 다른 사용자가 먼저 수정함 -> 덮어쓰지 않고 ObjectError 로 남김
+                    errors.reject("versionConflict");
+                }
+                return false;
+            }
+            return true;
+        }, executor);
+    }
+
+    private boolean validate(Object form, Errors errors) {
+        validator.validate(form, errors);
+        // 특정 필드가 아닌 복합 룰 검증 (가격 * 수량의 합이 10,000원 이상) -> ObjectError 로 남김
+        compositeRuleValidator.validate(form, errors);
+        return !errors.hasErrors();
+    }
+}
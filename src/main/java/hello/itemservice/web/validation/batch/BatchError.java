@@ -0,0 +1,44 @@
+package hello.itemservice.web.validation.batch;
+
+import lombok.Getter;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.validation.MessageCodesResolver;
+
+/**
+ * 일괄 검증 오류 하나 - rejectValue / reject 에 넘어온 값만 담음
+ * field 가 null 이면 특정 필드가 아닌 오류 (totalPriceMin)
+ *
+ * FieldError 와 달리 메시지 코드 목록(range.item.price, range.price, ...)은 메시지가 필요할 때 resolvable 로 만든다.
+ */
+@Getter
+public class BatchError {
+
+    private final String field;
+    private final String code;
+    private final Object[] arguments;
+    private final String defaultMessage;
+
+    BatchError(String field, String code, Object[] arguments, String defaultMessage) {
+        this.field = field;
+        this.code = code;
+        this.arguments = arguments;
+        this.defaultMessage = defaultMessage;
+    }
+
+    /**
+     * BindingResult 가 만드는 것과 같은 메시지 코드 목록으로 메시지 조회용 객체를 만듦
+     */
+    public MessageSourceResolvable resolvable(String objectName, Class<?> targetType, MessageCodesResolver codesResolver) {
+        String[] codes = field == null
+                ? codesResolver.resolveMessageCodes(code, objectName)
+                : codesResolver.resolveMessageCodes(code, objectName, field, BeanUtils.findPropertyType(field, targetType));
+        return new DefaultMessageSourceResolvable(codes, arguments, defaultMessage);
+    }
+
+    @Override
+    public String toString() {
+        return (field == null ? "" : field + ":") + code;
+    }
+}
@@ -0,0 +1,110 @@
+package hello.itemservice.web.validation.batch;
+
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.AbstractErrors;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 일괄 검증용 Errors - 오류가 없으면 아무것도 할당하지 않음
+ *
+ * BeanPropertyBindingResult 는 만들 때 BeanWrapper 를, 오류마다 메시지 코드 목록과 FieldError 를 만든다.
+ * 여기서는 rejectValue / reject 에 넘어온 값만 BatchError 로 남기고, 검증기가 묻는 경우에만 FieldError 로 바꿔서 돌려준다.
+ * 한 스레드에서 객체 하나를 검증하는 동안만 쓴다.
+ */
+class BatchErrors extends AbstractErrors {
+
+    private final Object target;
+    private final String objectName;
+    private List<BatchError> errors;
+
+    BatchErrors(Object target, String objectName) {
+        this.target = target;
+        this.objectName = objectName;
+    }
+
+    List<BatchError> getBatchErrors() {
+        return errors == null ? Collections.emptyList() : errors;
+    }
+
+    @Override
+    public String getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public void reject(String errorCode, @Nullable Object[] errorArgs, @Nullable String defaultMessage) {
+        add(new BatchError(null, errorCode, errorArgs, defaultMessage));
+    }
+
+    @Override
+    public void rejectValue(@Nullable String field, String errorCode, @Nullable Object[] errorArgs, @Nullable String defaultMessage) {
+        if (!StringUtils.hasLength(field) && getNestedPath().isEmpty()) {
+            reject(errorCode, errorArgs, defaultMessage);
+            return;
+        }
+        add(new BatchError(fixedField(field), errorCode, errorArgs, defaultMessage));
+    }
+
+    @Override
+    public void addAllErrors(Errors errors) {
+        for (ObjectError error : errors.getAllErrors()) {
+            String field = error instanceof FieldError ? ((FieldError) error).getField() : null;
+            add(new BatchError(field, error.getCode(), error.getArguments(), error.getDefaultMessage()));
+        }
+    }
+
+    @Override
+    public boolean hasErrors() {
+        return errors != null;
+    }
+
+    @Override
+    public int getErrorCount() {
+        return errors == null ? 0 : errors.size();
+    }
+
+    @Override
+    public List<ObjectError> getGlobalErrors() {
+        List<ObjectError> result = new ArrayList<>();
+        for (BatchError error : getBatchErrors()) {
+            if (error.getField() == null) {
+                result.add(new ObjectError(objectName, new String[]{error.getCode()}, error.getArguments(), error.getDefaultMessage()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<FieldError> getFieldErrors() {
+        List<FieldError> result = new ArrayList<>();
+        for (BatchError error : getBatchErrors()) {
+            if (error.getField() != null) {
+                result.add(new FieldError(objectName, error.getField(), null, false,
+                        new String[]{error.getCode()}, error.getArguments(), error.getDefaultMessage()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @Nullable
+    public Object getFieldValue(String field) {
+        // ValidationUtils.rejectIfEmpty 등에서만 호출 - 그때만 필드를 읽음
+        return PropertyAccessorFactory.forBeanPropertyAccess(target).getPropertyValue(fixedField(field));
+    }
+
+    private void add(BatchError error) {
+        if (errors == null) {
+            errors = new ArrayList<>(4);
+        }
+        errors.add(error);
+    }
+}
@@ -0,0 +1,65 @@
+package hello.itemservice.web.validation.batch;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 일괄 검증 결과 - 검증한 수와, 오류가 있는 순번(index)의 오류만 순번 오름차순으로 담음
+ * 오류가 없는 객체는 결과에 아무것도 남기지 않는다.
+ */
+@Getter
+public class BatchValidationResult {
+
+    private final int total;
+    private final List<IndexedErrors> failures;
+
+    BatchValidationResult(int total, List<IndexedErrors> failures) {
+        this.total = total;
+        this.failures = failures;
+    }
+
+    public boolean hasErrors() {
+        return !failures.isEmpty();
+    }
+
+    public int getFailedCount() {
+        return failures.size();
+    }
+
+    /**
+     * index 번째 객체의 오류 (없으면 빈 목록) - failures 가 순번 순이므로 이진 탐색
+     */
+    public List<BatchError> errorsAt(int index) {
+        int low = 0;
+        int high = failures.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midIndex = failures.get(mid).getIndex();
+            if (midIndex < index) {
+                low = mid + 1;
+            } else if (midIndex > index) {
+                high = mid - 1;
+            } else {
+                return failures.get(mid).getErrors();
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * index 번째 객체의 오류 목록
+     */
+    @Getter
+    public static class IndexedErrors {
+
+        private final int index;
+        private final List<BatchError> errors;
+
+        IndexedErrors(int index, List<BatchError> errors) {
+            this.index = index;
+            this.errors = errors;
+        }
+    }
+}
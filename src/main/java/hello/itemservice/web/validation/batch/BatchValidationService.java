@@ -0,0 +1,146 @@
+package hello.itemservice.web.validation.batch;
+
+import hello.itemservice.domain.rule.CompositeRuleValidator;
+import hello.itemservice.web.validation.batch.BatchValidationResult.IndexedErrors;
+import hello.itemservice.web.validation.plan.PlannedValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+
+/**
+ * 여러 객체(List<Item>, List<ItemSaveForm> ...)를 ForkJoinPool 에서 나눠서 검증
+ *
+ * - 목록을 반씩 나눠 chunk 크기 이하가 되면 한 스레드가 순서대로 검증한다. (작업을 훔쳐가므로 코어 수만큼 처리량이 늘어남)
+ * - 객체마다 BeanPropertyBindingResult 대신 BatchErrors 를 쓰고, 오류가 있는 객체의 순번과 오류만 남긴다.
+ * - 검증 규칙은 컨트롤러와 같다. (Bean Validation(검증 계획) + groups + @CompositeRule, 또는 ItemValidator 같은 Validator)
+ *
+ * 대량 등록(ItemBulkImporter)과 룰 변경 후 전체 카탈로그 재검증에 사용한다.
+ */
+@Component
+public class BatchValidationService {
+
+    // 이보다 작게 나누면 작업 분배 비용이 검증 비용보다 커짐
+    static final int MIN_CHUNK = 256;
+
+    private final PlannedValidator validator;
+    private final CompositeRuleValidator compositeRuleValidator;
+    private final ForkJoinPool pool;
+
+    public BatchValidationService(PlannedValidator validator, CompositeRuleValidator compositeRuleValidator,
+                                  @Value("${itemservice.batch-validation.parallelism:0}") int parallelism) {
+        this.validator = validator;
+        this.compositeRuleValidator = compositeRuleValidator;
+        // 0 이면 코어 수 - 요청 처리용 공용 풀(commonPool)과 나눠 쓰지 않도록 별도 풀
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("batch-validation-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Bean Validation + @CompositeRule 로 검증 - validationHints 는 @Validated 의 groups (ex. SaveCheck.class)
+     *
+     * @param objectName 오류 메시지 코드에 들어가는 이름 (컨트롤러의 @ModelAttribute 이름, ex. "item")
+     */
+    public BatchValidationResult validate(List<?> targets, String objectName, Object... validationHints) {
+        return validate(targets, objectName, (target, errors) -> {
+            validator.validate(target, errors, validationHints);
+            compositeRuleValidator.validate(target, errors);
+        });
+    }
+
+    /**
+     * 주어진 Validator 로 검증 (ex. ItemValidator)
+     */
+    public BatchValidationResult validateWith(List<?> targets, String objectName, Validator targetValidator) {
+        return validate(targets, objectName, targetValidator::validate);
+    }
+
+    private BatchValidationResult validate(List<?> targets, String objectName, BiConsumer<Object, Errors> check) {
+        if (targets.isEmpty()) {
+            return new BatchValidationResult(0, Collections.emptyList());
+        }
+        List<?> list = targets instanceof RandomAccess ? targets : new ArrayList<>(targets);
+        int chunk = Math.max(MIN_CHUNK, list.size() / (pool.getParallelism() * 4));
+        List<IndexedErrors> failures = pool.invoke(new ValidateTask(list, 0, list.size(), chunk, objectName, check));
+        return new BatchValidationResult(list.size(), failures);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * [from, to) 구간 검증 - 결과는 순번 오름차순
+     */
+    private static class ValidateTask extends RecursiveTask<List<IndexedErrors>> {
+
+        private final List<?> targets;
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final String objectName;
+        private final BiConsumer<Object, Errors> check;
+
+        ValidateTask(List<?> targets, int from, int to, int chunk, String objectName, BiConsumer<Object, Errors> check) {
+            this.targets = targets;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.objectName = objectName;
+            this.check = check;
+        }
+
+        @Override
+        protected List<IndexedErrors> compute() {
+            if (to - from <= chunk) {
+                return validateRange();
+            }
+            int mid = (from + to) >>> 1;
+            ValidateTask left = new ValidateTask(targets, from, mid, chunk, objectName, check);
+            left.fork();
+            List<IndexedErrors> rightFailures = new ValidateTask(targets, mid, to, chunk, objectName, check).compute();
+            List<IndexedErrors> leftFailures = left.join();
+            if (rightFailures.isEmpty()) {
+                return leftFailures;
+            }
+            if (leftFailures.isEmpty()) {
+                return rightFailures;
+            }
+            List<IndexedErrors> merged = new ArrayList<>(leftFailures.size() + rightFailures.size());
+            merged.addAll(leftFailures);
+            merged.addAll(rightFailures);
+            return merged;
+        }
+
+        private List<IndexedErrors> validateRange() {
+            List<IndexedErrors> failures = Collections.emptyList();
+            for (int i = from; i < to; i++) {
+                Object target = targets.get(i);
+                BatchErrors errors = new BatchErrors(target, objectName);
+                check.accept(target, errors);
+                if (errors.hasErrors()) {
+                    if (failures.isEmpty()) {
+                        failures = new ArrayList<>();
+                    }
+                    failures.add(new IndexedErrors(i, errors.getBatchErrors()));
+                }
+            }
+            return failures;
+        }
+    }
+}
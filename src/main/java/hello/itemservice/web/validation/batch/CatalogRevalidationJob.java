@@ -0,0 +1,280 @@
+package hello.itemservice.web.validation.batch;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemPage;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 카탈로그 재검증 - 검증 규칙(validation-rules.properties 의 price, quantity, totalPriceMin ...)을 바꾼 뒤 기존 상품 중 규칙을 어기는 상품을 찾음
+ *
+ * - 저장된 상품을 등록 폼(ItemSaveForm)과 같은 규칙으로 검증한다. (Bean Validation(@FieldRule 포함) + @CompositeRule)
+ * - id 순 커서로 chunkSize 개씩 읽어서 BatchValidationService 로 병렬 검증하고, 위반 상품은 바로 보고서에 추가한다.
+ * - 묶음마다 커서를 남기므로 멈췄다가(pause) 이어서(resume) 검사할 수 있고, 실패하거나 재시작한 경우에도 보고된 커서부터 다시 시작할 수 있다.
+ * - 묶음을 검증한 시간에 비례해서 쉬므로 (dutyCycle) 평균 CPU 사용량이 요청 처리를 밀어내지 않는다.
+ *
+ * 검사 도중 수정된 상품은 커서를 지났으면 다시 검사하지 않는다. (보고서의 version 으로 구분)
+ */
+@Slf4j
+@Component
+public class CatalogRevalidationJob {
+
+    static final String OBJECT_NAME = "item";
+
+    public enum State {
+        IDLE, RUNNING, PAUSED, COMPLETED, FAILED
+    }
+
+    private final ItemRepository itemRepository;
+    private final BatchValidationService batchValidationService;
+    private final int chunkSize;
+    private final double dutyCycle;
+    private final int maxViolations;
+    private final ExecutorService executor;
+
+    // 상태는 lock 안에서만 바꿈 (검사 스레드 하나 + 조회 요청들)
+    private final Object lock = new Object();
+    private State state = State.IDLE;
+    private Long cursor;
+    private long scanned;
+    private long violationCount;
+    private long startedAt;
+    private long finishedAt;
+    private String failure;
+    private final List<Violation> violations = new ArrayList<>();
+    private volatile boolean pauseRequested;
+
+    public CatalogRevalidationJob(ItemRepository itemRepository, BatchValidationService batchValidationService,
+                                  @Value("${itemservice.revalidation.chunk-size:2000}") int chunkSize,
+                                  @Value("${itemservice.revalidation.duty-cycle:0.25}") double dutyCycle,
+                                  @Value("${itemservice.revalidation.max-violations:100000}") int maxViolations) {
+        if (dutyCycle <= 0 || dutyCycle > 1) {
+            throw new IllegalArgumentException("itemservice.revalidation.duty-cycle must be in (0, 1] : " + dutyCycle);
+        }
+        this.itemRepository = itemRepository;
+        this.batchValidationService = batchValidationService;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.dutyCycle = dutyCycle;
+        this.maxViolations = maxViolations;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("catalog-revalidation-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    /**
+     * 새로 검사 시작 - after 를 지정하면 그 id 다음부터 (이전 검사의 커서로 이어서 검사)
+     * 이미 검사 중이면 아무것도 하지 않음
+     */
+    public RevalidationStatus start(Long after) {
+        synchronized (lock) {
+            if (state == State.RUNNING) {
+                return status();
+            }
+            cursor = after;
+            scanned = 0;
+            violationCount = 0;
+            violations.clear();
+            startedAt = System.currentTimeMillis();
+            log.info("catalog revalidation started after={}", after);
+            return launch();
+        }
+    }
+
+    /**
+     * 지금 검사 중인 묶음까지 끝내고 멈춤
+     */
+    public RevalidationStatus pause() {
+        synchronized (lock) {
+            if (state == State.RUNNING) {
+                pauseRequested = true;
+            }
+            return status();
+        }
+    }
+
+    /**
+     * 멈췄거나 실패한 검사를 마지막 커서부터 이어서 검사
+     * 아직 멈추기 전(지금 묶음을 검사하는 중)이면 멈춤 요청만 취소한다.
+     */
+    public RevalidationStatus resume() {
+        synchronized (lock) {
+            if (state == State.RUNNING && pauseRequested) {
+                pauseRequested = false;
+                log.info("catalog revalidation pause cancelled cursor={}", cursor);
+                return status();
+            }
+            if (state != State.PAUSED && state != State.FAILED) {
+                return status();
+            }
+            log.info("catalog revalidation resumed cursor={}", cursor);
+            return launch();
+        }
+    }
+
+    public RevalidationStatus status() {
+        synchronized (lock) {
+            long end = state == State.RUNNING || finishedAt == 0 ? System.currentTimeMillis() : finishedAt;
+            return new RevalidationStatus(state, cursor, scanned, violationCount, violations.size(),
+                    startedAt, startedAt == 0 ? 0 : end - startedAt, failure);
+        }
+    }
+
+    /**
+     * 지금까지 찾은 위반 상품 중 from 번째부터 (보고서를 나눠서 받을 때 from 을 늘려가며 조회)
+     */
+    public List<Violation> violations(int from, int limit) {
+        synchronized (lock) {
+            if (from >= violations.size() || limit <= 0) {
+                return Collections.emptyList();
+            }
+            int to = (int) Math.min(violations.size(), (long) Math.max(0, from) + limit);
+            return new ArrayList<>(violations.subList(Math.max(0, from), to));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pauseRequested = true;
+        executor.shutdownNow();
+    }
+
+    private RevalidationStatus launch() {
+        state = State.RUNNING;
+        finishedAt = 0;
+        failure = null;
+        pauseRequested = false;
+        executor.execute(this::run);
+        return status();
+    }
+
+    private void run() {
+        try {
+            while (!pausedOnRequest()) {
+                long startNanos = System.nanoTime();
+                List<Item> items = nextChunk(currentCursor());
+                if (items.isEmpty()) {
+                    finish(State.COMPLETED, null);
+                    return;
+                }
+                List<ItemSaveForm> forms = new ArrayList<>(items.size());
+                for (Item item : items) {
+                    forms.add(toForm(item));
+                }
+                BatchValidationResult result = batchValidationService.validate(forms, OBJECT_NAME);
+                record(items, result);
+                throttle(System.nanoTime() - startNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(State.PAUSED, null);
+        } catch (RuntimeException e) {
+            log.error("catalog revalidation failed cursor={}", currentCursor(), e);
+            finish(State.FAILED, e.toString());
+        }
+    }
+
+    /**
+     * 멈춤 요청이 있으면 lock 안에서 바로 PAUSED 로 바꿈
+     * 멈출지 정하는 것과 상태를 바꾸는 것 사이에 resume() 이 끼어들어 재개 요청을 잃지 않도록
+     */
+    private boolean pausedOnRequest() {
+        synchronized (lock) {
+            if (!pauseRequested) {
+                return false;
+            }
+            finish(State.PAUSED, null);
+            return true;
+        }
+    }
+
+    private List<Item> nextChunk(Long after) {
+        List<Item> items = new ArrayList<>(chunkSize);
+        Long pageCursor = after;
+        while (items.size() < chunkSize) {
+            ItemPage page = itemRepository.findAfter(pageCursor, Math.min(chunkSize - items.size(), ItemRepository.MAX_PAGE_SIZE));
+            items.addAll(page.getItems());
+            pageCursor = page.getNextCursor();
+            if (pageCursor == null) {
+                break;
+            }
+        }
+        return items;
+    }
+
+    private void record(List<Item> items, BatchValidationResult result) {
+        synchronized (lock) {
+            for (BatchValidationResult.IndexedErrors failed : result.getFailures()) {
+                Item item = items.get(failed.getIndex());
+                violationCount++;
+                if (violations.size() < maxViolations) {
+                    violations.add(new Violation(item.getId(), item.getVersion(), failed.getErrors()));
+                }
+            }
+            scanned += items.size();
+            cursor = items.get(items.size() - 1).getId();
+        }
+    }
+
+    /**
+     * dutyCycle 0.25 -> 100ms 검증했으면 300ms 쉼
+     */
+    private void throttle(long workNanos) throws InterruptedException {
+        long pauseNanos = (long) (workNanos * (1 - dutyCycle) / dutyCycle);
+        if (pauseNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(pauseNanos);
+        }
+    }
+
+    private Long currentCursor() {
+        synchronized (lock) {
+            return cursor;
+        }
+    }
+
+    private void finish(State finalState, String failureMessage) {
+        synchronized (lock) {
+            state = finalState;
+            failure = failureMessage;
+            finishedAt = System.currentTimeMillis();
+            log.info("catalog revalidation {} cursor={} scanned={} violations={}", finalState, cursor, scanned, violationCount);
+        }
+    }
+
+    private static ItemSaveForm toForm(Item item) {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(item.getItemName());
+        form.setPrice(item.getPrice());
+        form.setQuantity(item.getQuantity());
+        return form;
+    }
+
+    /**
+     * 규칙을 어기는 상품 하나 - 검사한 시점의 버전과 오류
+     */
+    @Getter
+    public static class Violation {
+
+        private final Long itemId;
+        private final Long version;
+        private final List<BatchError> errors;
+
+        Violation(Long itemId, Long version, List<BatchError> errors) {
+            this.itemId = itemId;
+            this.version = version;
+            this.errors = errors;
+        }
+    }
+}
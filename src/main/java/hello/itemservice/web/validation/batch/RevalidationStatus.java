@@ -0,0 +1,33 @@
+package hello.itemservice.web.validation.batch;
+
+import lombok.Getter;
+
+/**
+ * 카탈로그 재검증 진행 상황
+ * - cursor : 마지막으로 검사한 상품 id (이 값을 after 로 넘기면 이어서 검사)
+ * - violations : 찾은 위반 상품 수, reported : 보고서에 남은 수 (itemservice.revalidation.max-violations 까지)
+ */
+@Getter
+public class RevalidationStatus {
+
+    private final CatalogRevalidationJob.State state;
+    private final Long cursor;
+    private final long scanned;
+    private final long violations;
+    private final int reported;
+    private final long startedAt;
+    private final long elapsedMillis;
+    private final String failure;
+
+    RevalidationStatus(CatalogRevalidationJob.State state, Long cursor, long scanned, long violations, int reported,
+                       long startedAt, long elapsedMillis, String failure) {
+        this.state = state;
+        this.cursor = cursor;
+        this.scanned = scanned;
+        this.violations = violations;
+        this.reported = reported;
+        this.startedAt = startedAt;
+        this.elapsedMillis = elapsedMillis;
+        this.failure = failure;
+    }
+}
@@ -0,0 +1,22 @@
+package hello.itemservice.web.validation.bulk;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 대량 등록 결과 - 검증을 통과해서 저장된 수와 실패한 상품별 오류
+ */
+@Getter
+public class BulkImportResult {
+
+    private final int total;
+    private final int saved;
+    private final List<BulkItemError> errors;
+
+    public BulkImportResult(int total, int saved, List<BulkItemError> errors) {
+        this.total = total;
+        this.saved = saved;
+        this.errors = errors;
+    }
+}
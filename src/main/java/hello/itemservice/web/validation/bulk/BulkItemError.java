@@ -0,0 +1,23 @@
+package hello.itemservice.web.validation.bulk;
+
+import lombok.Getter;
+
+/**
+ * 대량 등록 요청에서 index 번째 상품의 검증 오류
+ * field 가 null 이면 특정 필드가 아닌 오류 (totalPriceMin, JSON 형식 오류)
+ */
+@Getter
+public class BulkItemError {
+
+    private final int index;
+    private final String field;
+    private final String code;
+    private final String message;
+
+    public BulkItemError(int index, String field, String code, String message) {
+        this.index = index;
+        this.field = field;
+        this.code = code;
+        this.message = message;
+    }
+}
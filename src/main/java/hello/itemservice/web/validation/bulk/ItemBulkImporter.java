@@ -0,0 +1,259 @@
+package hello.itemservice.web.validation.bulk;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.web.validation.batch.BatchError;
+import hello.itemservice.web.validation.batch.BatchValidationResult;
+import hello.itemservice.web.validation.batch.BatchValidationService;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.message.CachingMessageCodesResolver;
+import hello.itemservice.web.validation.metrics.ValidationMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ItemSaveForm 대량 등록
+ *
+ * - 요청 본문은 JSON 배열([{...}, {...}]) 또는 NDJSON(한 줄에 하나씩) 모두 받는다.
+ * - 본문을 한 번에 읽지 않고 스트리밍 파서로 하나씩 읽어서 batchSize 개가 모이면 병렬로 검증(BatchValidationService)하고,
+ *   통과한 상품은 묶음 단위로 저장한다. -> 본문 크기와 관계없이 메모리에는 한 묶음만 올라감
+ * - 검증 규칙은 V4 컨트롤러와 같다. (Bean Validation + 가격 * 수량 복합 룰)
+ */
+@Slf4j
+@Component
+public class ItemBulkImporter {
+
+    static final int BATCH_SIZE = 1000;
+    // 스트리밍 응답은 진행 상황이 자주 보이도록 작은 묶음으로 처리하고 묶음마다 flush
+    static final int STREAM_BATCH_SIZE = 256;
+    private static final String OBJECT_NAME = "item";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
+    private final BatchValidationService batchValidationService;
+    private final ItemRepository itemRepository;
+    private final MessageSource messageSource;
+    private final ValidationMetrics validationMetrics;
+    private final MessageCodesResolver codesResolver = new CachingMessageCodesResolver(new DefaultMessageCodesResolver());
+
+    public ItemBulkImporter(ObjectMapper objectMapper, BatchValidationService batchValidationService,
+                            ItemRepository itemRepository, MessageSource messageSource, ValidationMetrics validationMetrics) {
+        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(ItemSaveForm.class);
+        this.batchValidationService = batchValidationService;
+        this.itemRepository = itemRepository;
+        this.messageSource = messageSource;
+        this.validationMetrics = validationMetrics;
+    }
+
+    /**
+     * 전체를 처리한 뒤 저장 수와 실패한 상품의 오류만 모아서 반환
+     */
+    public BulkImportResult importItems(InputStream in, Locale locale) throws IOException {
+        List<BulkItemError> errors = new ArrayList<>();
+        BulkImportResult result = process(in, locale, BATCH_SIZE, outcomes -> {
+            for (Outcome outcome : outcomes) {
+                errors.addAll(outcome.errors);
+            }
+        });
+        return new BulkImportResult(result.getTotal(), result.getSaved(), errors);
+    }
+
+    /**
+     * 상품별 결과를 NDJSON 으로 바로 응답에 씀 - 한 줄에 한 상품, 마지막 줄은 요약
+     * {"index":0,"id":1}
+     * {"index":1,"errors":[{"field":"itemName","code":"NotBlank","message":"..."}]}
+     * {"total":2,"saved":1,"failed":1}
+     */
+    public BulkImportResult importStream(InputStream in, OutputStream out, Locale locale) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            BulkImportResult result = process(in, locale, STREAM_BATCH_SIZE, outcomes -> {
+                for (Outcome outcome : outcomes) {
+                    writeOutcome(generator, outcome);
+                }
+                generator.flush();
+            });
+            generator.writeStartObject();
+            generator.writeNumberField("total", result.getTotal());
+            generator.writeNumberField("saved", result.getSaved());
+            generator.writeNumberField("failed", result.getTotal() - result.getSaved());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            return result;
+        }
+    }
+
+    private BulkImportResult process(InputStream in, Locale locale, int batchSize, OutcomeHandler handler) throws IOException {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        int total = 0;
+        int saved = 0;
+        try (MappingIterator<ItemSaveForm> iterator = reader.readValues(in)) {
+            while (true) {
+                try {
+                    if (!iterator.hasNextValue()) {
+                        break;
+                    }
+                    batch.add(new Pending(total, iterator.nextValue(), null));
+                } catch (JsonMappingException e) {
+                    // 숫자 자리에 문자 등 - 해당 상품만 실패, 다음 상품부터 계속 읽음
+                    batch.add(new Pending(total, null, typeMismatch(total, e, locale)));
+                } catch (JsonProcessingException e) {
+                    // JSON 문법 오류 - 이후 내용은 읽을 수 없음
+                    batch.add(new Pending(total, null, new BulkItemError(total, null, "malformedJson", e.getOriginalMessage())));
+                    total++;
+                    break;
+                }
+                total++;
+                if (batch.size() >= batchSize) {
+                    saved += importBatch(batch, locale, handler);
+                    batch.clear();
+                }
+            }
+        }
+        saved += importBatch(batch, locale, handler);
+        log.info("대량 등록 total={} saved={}", total, saved);
+        return new BulkImportResult(total, saved, Collections.emptyList());
+    }
+
+    private int importBatch(List<Pending> batch, Locale locale, OutcomeHandler handler) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        // 형식 오류로 읽지 못한 상품은 빼고 검증 (검증 결과의 순번 = forms 의 순번)
+        List<ItemSaveForm> forms = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            if (pending.form != null) {
+                forms.add(pending.form);
+            }
+        }
+        // 검증 규칙은 ValidationItemControllerV4 와 동일 (Bean Validation + 복합 룰)
+        BatchValidationResult result = batchValidationService.validate(forms, OBJECT_NAME);
+
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        List<Item> items = new ArrayList<>(batch.size());
+        List<Outcome> savedOutcomes = new ArrayList<>(batch.size());
+        int formIndex = 0;
+        for (Pending pending : batch) {
+            if (pending.form == null) {
+                outcomes.add(new Outcome(pending.index, Collections.singletonList(pending.error)));
+                continue;
+            }
+            List<BatchError> batchErrors = result.errorsAt(formIndex++);
+            if (!batchErrors.isEmpty()) {
+                List<BulkItemError> errors = new ArrayList<>(batchErrors.size());
+                for (BatchError error : batchErrors) {
+                    errors.add(toBulkItemError(pending.index, error, locale));
+                }
+                outcomes.add(new Outcome(pending.index, errors));
+            } else {
+                Outcome outcome = new Outcome(pending.index, Collections.emptyList());
+                items.add(toItem(pending.form));
+                outcomes.add(outcome);
+                savedOutcomes.add(outcome);
+            }
+        }
+
+        List<Item> savedItems = itemRepository.saveAll(items);
+        for (int i = 0; i < savedItems.size(); i++) {
+            savedOutcomes.get(i).itemId = savedItems.get(i).getId();
+        }
+        handler.handle(outcomes);
+        return savedItems.size();
+    }
+
+    private void writeOutcome(JsonGenerator generator, Outcome outcome) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("index", outcome.index);
+        if (outcome.itemId != null) {
+            generator.writeNumberField("id", outcome.itemId);
+        } else {
+            generator.writeArrayFieldStart("errors");
+            for (BulkItemError error : outcome.errors) {
+                generator.writeStartObject();
+                generator.writeStringField("field", error.getField());
+                generator.writeStringField("code", error.getCode());
+                generator.writeStringField("message", error.getMessage());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private BulkItemError toBulkItemError(int index, BatchError error, Locale locale) {
+        MessageSourceResolvable resolvable = error.resolvable(OBJECT_NAME, ItemSaveForm.class, codesResolver);
+        validationMetrics.countError(error.getField(), resolvable.getCodes()[0]);
+        return new BulkItemError(index, error.getField(), error.getCode(), messageSource.getMessage(resolvable, locale));
+    }
+
+    private BulkItemError typeMismatch(int index, JsonMappingException e, Locale locale) {
+        List<JsonMappingException.Reference> path = e.getPath();
+        String field = path.isEmpty() ? null : path.get(path.size() - 1).getFieldName();
+        String[] codes = field == null
+                ? codesResolver.resolveMessageCodes("typeMismatch", OBJECT_NAME)
+                : codesResolver.resolveMessageCodes("typeMismatch", OBJECT_NAME, field, null);
+        String message = messageSource.getMessage(new DefaultMessageSourceResolvable(codes, e.getOriginalMessage()), locale);
+        return new BulkItemError(index, field, "typeMismatch", message);
+    }
+
+    private Item toItem(ItemSaveForm form) {
+        return new Item(form.getItemName(), form.getPrice(), form.getQuantity());
+    }
+
+    /**
+     * 읽었지만 아직 처리하지 않은 상품 - 형식 오류면 form 대신 error
+     */
+    private static class Pending {
+
+        final int index;
+        final ItemSaveForm form;
+        final BulkItemError error;
+
+        Pending(int index, ItemSaveForm form, BulkItemError error) {
+            this.index = index;
+            this.form = form;
+            this.error = error;
+        }
+    }
+
+    /**
+     * 상품 하나의 처리 결과 - 저장되었으면 itemId, 아니면 errors
+     */
+    private static class Outcome {
+
+        final int index;
+        final List<BulkItemError> errors;
+        Long itemId;
+
+        Outcome(int index, List<BulkItemError> errors) {
+            this.index = index;
+            this.errors = errors;
+        }
+    }
+
+    private interface OutcomeHandler {
+        void handle(List<Outcome> outcomes) throws IOException;
+    }
+}
@@ -0,0 +1,58 @@
+package hello.itemservice.web.validation.cache;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Locale;
+
+/**
+ * 상품 상세 / 목록 화면의 조건부 요청 처리 (ETag, Last-Modified)
+ *
+ * 바뀐 것이 없으면 304 로 응답하고 템플릿을 렌더링하지 않는다. (핸들러는 null 을 반환)
+ * - 상세 ETag : 상품 id + 상품 버전 + 언어
+ * - 목록 ETag : 카탈로그 버전 + 언어 (목록의 어떤 상품이 바뀌어도 카탈로그 버전이 바뀜)
+ * - Last-Modified : 카탈로그가 마지막으로 바뀐 시각 (상품별 수정 시각은 따로 관리하지 않으므로 보수적으로 사용)
+ *
+ * 같은 URL 이라도 언어별로 화면이 다르므로 ETag 에 언어를 넣고 Vary: Accept-Language 를 남긴다.
+ * 재시작하면 카탈로그 버전이 처음부터 다시 시작하고 템플릿이 바뀌었을 수 있으므로 시작 시각(epoch)도 넣는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemConditionalRequests {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private final ItemRepository itemRepository;
+
+    /**
+     * @return true 면 이미 304 응답이 준비된 것 - 핸들러는 null 을 반환하면 된다.
+     */
+    public boolean checkItemNotModified(Item item, Locale locale, ServletWebRequest request) {
+        if (item == null) {
+            return false;
+        }
+        String etag = "\"item-" + epoch + "-" + item.getId() + "-" + item.getVersion() + "-" + locale.toLanguageTag() + "\"";
+        return checkNotModified(etag, request);
+    }
+
+    /**
+     * @return true 면 이미 304 응답이 준비된 것 - 핸들러는 null 을 반환하면 된다.
+     */
+    public boolean checkItemsNotModified(Locale locale, ServletWebRequest request) {
+        String etag = "\"items-" + epoch + "-" + itemRepository.getCatalogVersion() + "-" + locale.toLanguageTag() + "\"";
+        return checkNotModified(etag, request);
+    }
+
+    private boolean checkNotModified(String etag, ServletWebRequest request) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+            // 브라우저가 임의로 캐시한 화면을 쓰지 않고 매번 확인하도록 (바뀌지 않았으면 304)
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+        return request.checkNotModified(etag, itemRepository.getLastModified());
+    }
+}
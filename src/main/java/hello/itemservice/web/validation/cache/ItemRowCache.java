@@ -0,0 +1,124 @@
+package hello.itemservice.web.validation.cache;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemChangeListener;
+import hello.itemservice.domain.item.ItemRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import javax.servlet.ServletContext;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 상품 목록(validation/v4/items)의 행(<tr>) 렌더링 결과 캐시
+ *
+ * 행은 validation/v4/itemRow 템플릿으로 한 번만 렌더링하고 (상품 id, 버전, 언어) 별로 재사용한다.
+ * 목록 화면은 캐시된 행을 이어 붙인 문자열을 th:utext 로 넣으므로 행마다 표현식을 다시 평가하지 않는다.
+ * 상품명 이스케이프는 행을 렌더링할 때 th:text 가 이미 했다.
+ *
+ * 상품이 수정되면 ItemRepository 의 변경 알림으로 해당 상품의 행을 지운다. (버전이 키에 있으므로 지우지 않아도 옛 행을 쓰지는 않음)
+ * 카탈로그가 커도 메모리가 계속 늘지 않도록 maxEntries 개 상품까지만 캐시한다.
+ */
+@Component
+public class ItemRowCache implements ItemChangeListener {
+
+    static final String ROW_TEMPLATE = "validation/v4/itemRow";
+
+    private final ITemplateEngine templateEngine;
+    private final String itemsPath;
+    private final int maxEntries;
+    private final ConcurrentMap<Long, Rows> cache = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ItemRowCache(ITemplateEngine templateEngine, ServletContext servletContext, ItemRepository itemRepository,
+                        @Value("${itemservice.row-cache.max-entries:100000}") int maxEntries) {
+        // 행에는 @{...} 링크 표현식 대신 미리 만든 경로를 넘긴다. (세션 id 가 붙은 URL 이 캐시되지 않도록)
+        this(templateEngine, servletContext.getContextPath() + "/validation/v4/items", maxEntries);
+        itemRepository.addListener(this);
+    }
+
+    public ItemRowCache(ITemplateEngine templateEngine, String itemsPath, int maxEntries) {
+        this.templateEngine = templateEngine;
+        this.itemsPath = itemsPath;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 상품 목록의 행들 (<tr>...</tr> 이어 붙인 HTML)
+     */
+    public String render(List<Item> items, Locale locale) {
+        StringBuilder html = new StringBuilder(items.size() * 256);
+        for (Item item : items) {
+            html.append(row(item, locale));
+        }
+        return html.toString();
+    }
+
+    @Override
+    public void itemChanged(Item item) {
+        cache.remove(item.getId());
+    }
+
+    @Override
+    public void itemsCleared() {
+        cache.clear();
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private String row(Item item, Locale locale) {
+        long version = item.getVersion() == null ? 0L : item.getVersion();
+        Rows rows = cache.get(item.getId());
+        if (rows != null && rows.version == version) {
+            String html = rows.byLocale.get(locale);
+            if (html != null) {
+                return html;
+            }
+        }
+
+        String html = renderRow(item, locale);
+        if (rows == null || rows.version != version) {
+            if (rows == null && cache.size() >= maxEntries) {
+                return html;
+            }
+            Rows newRows = new Rows(version);
+            // 이미 더 새 버전의 행이 있으면 바꾸지 않음 (오래된 목록 요청이 늦게 도착한 경우)
+            rows = cache.merge(item.getId(), newRows, (current, created) -> current.version >= created.version ? current : created);
+            if (rows.version != version) {
+                return html;
+            }
+        }
+        rows.byLocale.putIfAbsent(locale, html);
+        return html;
+    }
+
+    private String renderRow(Item item, Locale locale) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("item", item);
+        variables.put("itemsPath", itemsPath);
+        return templateEngine.process(ROW_TEMPLATE, new Context(locale, variables));
+    }
+
+    /**
+     * 한 상품의 한 버전에 대한 언어별 행
+     */
+    private static final class Rows {
+
+        private final long version;
+        private final ConcurrentMap<Locale, String> byLocale = new ConcurrentHashMap<>(2);
+
+        Rows(long version) {
+            this.version = version;
+        }
+    }
+}
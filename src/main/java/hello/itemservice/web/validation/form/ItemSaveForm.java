@@ -2,22 +2,26 @@ package hello.itemservice.web.validation.form;
 
 import hello.itemservice.domain.item.SaveCheck;
 import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.domain.rule.CompositeRule;
+import hello.itemservice.domain.rule.FieldRule;
 import lombok.Data;
-import org.hibernate.validator.constraints.Range;
 
-import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import static hello.itemservice.domain.rule.CompositeRule.Operation.PRODUCT;
+
 @Data
+@CompositeRule(code = "totalPriceMin", operation = PRODUCT, fields = {"price", "quantity"})
 public class ItemSaveForm {
 
         @NotBlank
         private String itemName;
+        // 가격, 수량의 기준값은 규칙 표(validation-rules.properties)에서 - @Range, @Max 대신 @FieldRule
         @NotNull
-        @Range(min = 1000, max = 1000000)
+        @FieldRule("price")
         private Integer price;
         @NotNull
-        @Max(value = 9999)
+        @FieldRule("quantity")
         private Integer quantity;
 }
@@ -1,22 +1,30 @@
 package hello.itemservice.web.validation.form;
 
+import hello.itemservice.domain.rule.CompositeRule;
+import hello.itemservice.domain.rule.FieldRule;
 import lombok.Data;
-import org.hibernate.validator.constraints.Range;
 
-import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import static hello.itemservice.domain.rule.CompositeRule.Operation.PRODUCT;
+
 @Data
+@CompositeRule(code = "totalPriceMin", operation = PRODUCT, fields = {"price", "quantity"})
 public class ItemUpdateForm {
 
         @NotNull
         private Long id;
         @NotBlank
         private String itemName;
+        // 가격의 기준값은 규칙 표(validation-rules.properties)에서 - @Range 대신 @FieldRule
         @NotNull
-        @Range(min = 1000, max = 1000000)
+        @FieldRule("price")
         private Integer price;
         // 수정에서는 수량은 자유롭게 변경 할 수 있다.
         private Integer quantity;
+        // 수정 폼을 연 시점의 상품 버전 (hidden) - 그 사이 다른 사용자가 수정했으면 versionConflict
+        // 없으면 다른 사용자의 수정을 덮어쓰게 되므로 필수
+        @NotNull
+        private Long version;
 }
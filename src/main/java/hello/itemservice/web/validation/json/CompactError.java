@@ -0,0 +1,26 @@
+package hello.itemservice.web.validation.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+/**
+ * fail-fast 검증 응답 - 첫 번째 오류 하나만
+ * ObjectError 전체(codes, arguments, rejectedValue ...) 대신 필드, 오류 코드, 메시지만 담는다.
+ * field 가 null 이면 특정 필드가 아닌 오류 (totalPriceMin) - JSON 에서는 생략
+ *
+ * ex) {"field":"price","code":"range","message":"1,000 ~ 1,000,000 까지의 숫자를 입력해주세요."}
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompactError {
+
+    private final String field;
+    private final String code;
+    private final String message;
+
+    public CompactError(String field, String code, String message) {
+        this.field = field;
+        this.code = code;
+        this.message = message;
+    }
+}
@@ -0,0 +1,109 @@
+package hello.itemservice.web.validation.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemPage;
+import hello.itemservice.domain.item.ItemRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 상품을 JsonGenerator 로 응답에 바로 씀 (읽기 API)
+ *
+ * Item -> Map / DTO 변환이나 ObjectMapper 의 리플렉션 직렬화 없이 필드를 하나씩 쓴다.
+ * 전체 내보내기는 커서 페이지 단위로 읽고 쓰므로 카탈로그 크기와 관계없이 메모리 사용량이 일정하다.
+ */
+@Component
+public class ItemJsonWriter {
+
+    private final JsonFactory jsonFactory;
+    private final ItemRepository itemRepository;
+
+    public ItemJsonWriter(ObjectMapper objectMapper, ItemRepository itemRepository) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.itemRepository = itemRepository;
+    }
+
+    /**
+     * {"id":1,"itemName":"itemA","price":10000,"quantity":10,"version":0}
+     */
+    public void writeItem(Item item, OutputStream out) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            writeItem(generator, item);
+        }
+    }
+
+    /**
+     * {"items":[...],"size":20,"nextCursor":20} - nextCursor 가 null 이면 마지막 페이지
+     */
+    public void writePage(ItemPage page, OutputStream out) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("items");
+            for (Item item : page.getItems()) {
+                writeItem(generator, item);
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("size", page.getSize());
+            if (page.getNextCursor() == null) {
+                generator.writeNullField("nextCursor");
+            } else {
+                generator.writeNumberField("nextCursor", page.getNextCursor());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 전체 상품을 id 순으로 NDJSON (한 줄에 한 상품) 으로 씀 - 페이지마다 flush
+     *
+     * @return 쓴 상품 수
+     */
+    public long export(OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = createGenerator(out)) {
+            Long cursor = null;
+            do {
+                ItemPage page = itemRepository.findAfter(cursor, ItemRepository.MAX_PAGE_SIZE);
+                for (Item item : page.getItems()) {
+                    writeItem(generator, item);
+                    generator.writeRaw('\n');
+                    count++;
+                }
+                generator.flush();
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+        }
+        return count;
+    }
+
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 컨테이너가 닫음
+        generator.setRootValueSeparator(null); // NDJSON 의 줄 구분은 직접 씀
+        return generator;
+    }
+
+    private void writeItem(JsonGenerator generator, Item item) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", item.getId());
+        generator.writeStringField("itemName", item.getItemName());
+        writeNumberField(generator, "price", item.getPrice());
+        writeNumberField(generator, "quantity", item.getQuantity());
+        generator.writeNumberField("version", item.getVersion() == null ? 0L : item.getVersion());
+        generator.writeEndObject();
+    }
+
+    private static void writeNumberField(JsonGenerator generator, String name, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+}
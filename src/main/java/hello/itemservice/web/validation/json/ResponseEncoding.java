@@ -0,0 +1,92 @@
+package hello.itemservice.web.validation.json;
+
+import org.springframework.http.HttpHeaders;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Accept-Encoding 에 따라 응답 본문을 gzip / deflate 로 압축
+ *
+ * 톰캣 압축(server.compression)은 응답 크기를 알아야 판단하므로
+ * 목록 / 내보내기처럼 본문을 흘려 쓰는 응답은 여기서 직접 압축한다.
+ * 톰캣은 클라이언트가 gzip 을 허용할 때만 압축하고, Content-Encoding 이 gzip 이면 건너뛴다.
+ * 그래서 gzip 을 허용하면 항상 gzip 을 쓰고, deflate 는 gzip 을 받지 않는 클라이언트에만 쓴다.
+ * (이때는 톰캣이 압축하지 않으므로 두 번 압축되지 않음)
+ */
+public final class ResponseEncoding {
+
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private ResponseEncoding() {
+    }
+
+    /**
+     * 응답 본문을 쓸 스트림 - 다 쓴 뒤 반드시 close (압축 스트림의 마지막 블록을 씀)
+     * flush 하면 그때까지 쓴 내용이 압축되어 클라이언트로 나감 (syncFlush)
+     */
+    public static OutputStream open(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String encoding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (GZIP.equals(encoding)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            return new GZIPOutputStream(response.getOutputStream(), 8192, true);
+        }
+        if (DEFLATE.equals(encoding)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, DEFLATE);
+            return new DeflaterOutputStream(response.getOutputStream(), true); // zlib 포맷 (HTTP deflate)
+        }
+        return response.getOutputStream();
+    }
+
+    /**
+     * gzip 을 허용하면(q > 0) gzip, 아니면 deflate 를 허용할 때 deflate, 둘 다 아니면 null
+     * ex) "gzip;q=0.5, deflate" -> gzip, "*" -> gzip, "gzip;q=0, *" -> deflate, "deflate" -> deflate
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        Double gzip = null;
+        Double deflate = null;
+        double any = 0;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double q = quality(parts);
+            if (GZIP.equals(coding) || "x-gzip".equals(coding)) {
+                gzip = q;
+            } else if (DEFLATE.equals(coding)) {
+                deflate = q;
+            } else if ("*".equals(coding)) {
+                any = q;
+            }
+        }
+        // 직접 적지 않은 방식은 * 의 q 값을 따름
+        double gzipQuality = gzip != null ? gzip : any;
+        double deflateQuality = deflate != null ? deflate : any;
+        if (gzipQuality > 0) {
+            return GZIP;
+        }
+        return deflateQuality > 0 ? DEFLATE : null;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,105 @@
+package hello.itemservice.web.validation.message;
+
+import org.springframework.lang.Nullable;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 메시지 코드 목록을 캐시하는 MessageCodesResolver (WebConfig 에서 등록)
+ *
+ * DefaultMessageCodesResolver 는 rejectValue 할 때마다 "range.item.price", "range.price", ... 를
+ * 문자열 연결로 새로 만든다. (errorCode, objectName, field, fieldType) 별로 한 번만 만들고 같은 배열을 돌려준다.
+ * 반환된 배열은 공유되므로 수정하면 안 된다.
+ *
+ * field 에 인덱스가 들어가는 경우(items[0].price)처럼 키가 계속 늘어날 수 있으므로 maxEntries 까지만 캐시한다.
+ */
+public class CachingMessageCodesResolver implements MessageCodesResolver {
+
+    private static final int DEFAULT_MAX_ENTRIES = 4096;
+
+    private final MessageCodesResolver delegate;
+    private final int maxEntries;
+    private final ConcurrentMap<Key, String[]> cache = new ConcurrentHashMap<>();
+
+    public CachingMessageCodesResolver(MessageCodesResolver delegate) {
+        this(delegate, DEFAULT_MAX_ENTRIES);
+    }
+
+    public CachingMessageCodesResolver(MessageCodesResolver delegate, int maxEntries) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName) {
+        Key key = new Key(errorCode, objectName, null, null);
+        String[] codes = cache.get(key);
+        if (codes == null) {
+            codes = cache(key, delegate.resolveMessageCodes(errorCode, objectName));
+        }
+        return codes;
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName, String field, @Nullable Class<?> fieldType) {
+        Key key = new Key(errorCode, objectName, field, fieldType);
+        String[] codes = cache.get(key);
+        if (codes == null) {
+            codes = cache(key, delegate.resolveMessageCodes(errorCode, objectName, field, fieldType));
+        }
+        return codes;
+    }
+
+    private String[] cache(Key key, String[] codes) {
+        if (cache.size() >= maxEntries) {
+            return codes;
+        }
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = codes[i].intern(); // 같은 코드 문자열은 한 개만 유지
+        }
+        String[] existing = cache.putIfAbsent(key, codes);
+        return existing != null ? existing : codes;
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private static final class Key {
+
+        private final String errorCode;
+        private final String objectName;
+        private final String field;
+        private final Class<?> fieldType;
+        private final int hash;
+
+        Key(String errorCode, String objectName, String field, Class<?> fieldType) {
+            this.errorCode = errorCode;
+            this.objectName = objectName;
+            this.field = field;
+            this.fieldType = fieldType;
+            this.hash = Objects.hash(errorCode, objectName, field, fieldType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(errorCode, other.errorCode) && Objects.equals(objectName, other.objectName)
+                    && Objects.equals(field, other.field) && fieldType == other.fieldType;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
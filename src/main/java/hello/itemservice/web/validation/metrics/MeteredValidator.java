@@ -0,0 +1,48 @@
+package hello.itemservice.web.validation.metrics;
+
+import org.springframework.lang.Nullable;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증 소요 시간을 폼 클래스 / 그룹별로 기록하는 Validator (WebConfig 에서 MVC Validator 로 등록)
+ */
+public class MeteredValidator implements SmartValidator {
+
+    private static final Object[] NO_HINTS = new Object[0];
+
+    private final SmartValidator delegate;
+    private final ValidationMetrics metrics;
+
+    public MeteredValidator(SmartValidator delegate, ValidationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, NO_HINTS);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors, validationHints);
+        } finally {
+            metrics.timer(target.getClass(), validationHints).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, @Nullable Object value, Errors errors, Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+}
@@ -0,0 +1,36 @@
+package hello.itemservice.web.validation.metrics;
+
+import org.springframework.validation.BindingResult;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 폼 화면 컨트롤러(V2 ~ V4)의 검증 오류 수를 기록
+ *
+ * 컨트롤러에서 직접 reject 한 오류(totalPriceMin)까지 포함해야 하므로 검증 시점이 아니라
+ * 컨트롤러가 끝난 뒤 모델에 담긴 BindingResult 를 센다. (성공해서 redirect 하는 경우 모델에 BindingResult 가 없음)
+ * @RestController 는 모델이 없으므로 컨트롤러에서 ValidationMetrics 를 직접 호출한다.
+ */
+public class ValidationErrorMetricsInterceptor implements HandlerInterceptor {
+
+    private final ValidationMetrics metrics;
+
+    public ValidationErrorMetricsInterceptor(ValidationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        if (modelAndView == null) {
+            return;
+        }
+        for (Object value : modelAndView.getModel().values()) {
+            if (value instanceof BindingResult) {
+                metrics.countErrors((BindingResult) value);
+            }
+        }
+    }
+}
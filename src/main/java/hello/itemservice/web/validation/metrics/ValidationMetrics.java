@@ -0,0 +1,138 @@
+package hello.itemservice.web.validation.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 검증 메트릭
+ * - itemservice.validation : 폼 클래스 / 그룹별 검증 소요 시간
+ * - itemservice.validation.errors : 필드 / 오류 코드별 오류 수 (code 는 가장 구체적인 코드, ex) range.item.price)
+ *
+ * 미터는 처음 한 번만 등록하고 이후에는 캐시에서 꺼낸다.
+ */
+@Component
+public class ValidationMetrics {
+
+    static final String GLOBAL_FIELD = "global";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ErrorKey, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    public ValidationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Timer timer(Class<?> formType, Object[] validationHints) {
+        return timers.computeIfAbsent(new TimerKey(formType, validationHints), key -> Timer.builder("itemservice.validation")
+                .description("validation latency per form class and group")
+                .tag("form", formType.getSimpleName())
+                .tag("group", groupName(validationHints))
+                .register(registry));
+    }
+
+    /**
+     * 검증 오류를 필드 / 코드별로 셈 - 오류가 없으면 아무것도 하지 않음
+     */
+    public void countErrors(Errors errors) {
+        if (!errors.hasErrors()) {
+            return;
+        }
+        for (ObjectError error : errors.getAllErrors()) {
+            countError(error);
+        }
+    }
+
+    public void countError(ObjectError error) {
+        String field = error instanceof FieldError ? ((FieldError) error).getField() : GLOBAL_FIELD;
+        String[] codes = error.getCodes();
+        String code = codes != null && codes.length > 0 ? codes[0] : String.valueOf(error.getCode());
+        countError(field, code);
+    }
+
+    /**
+     * field 가 null 이면 특정 필드가 아닌 오류, code 는 가장 구체적인 코드
+     */
+    public void countError(String field, String code) {
+        String fieldTag = field == null ? GLOBAL_FIELD : field;
+        errorCounters.computeIfAbsent(new ErrorKey(fieldTag, code), key -> Counter.builder("itemservice.validation.errors")
+                .description("validation errors per field and code")
+                .tag("field", fieldTag)
+                .tag("code", code)
+                .register(registry))
+                .increment();
+    }
+
+    private static String groupName(Object[] validationHints) {
+        if (validationHints.length == 0) {
+            return "Default";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Object hint : validationHints) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(hint instanceof Class ? ((Class<?>) hint).getSimpleName() : String.valueOf(hint));
+        }
+        return sb.toString();
+    }
+
+    private static final class TimerKey {
+
+        private final Class<?> formType;
+        private final Object[] validationHints;
+
+        TimerKey(Class<?> formType, Object[] validationHints) {
+            this.formType = formType;
+            this.validationHints = validationHints;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof TimerKey)) {
+                return false;
+            }
+            TimerKey other = (TimerKey) o;
+            return formType == other.formType && Arrays.equals(validationHints, other.validationHints);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * formType.hashCode() + Arrays.hashCode(validationHints);
+        }
+    }
+
+    private static final class ErrorKey {
+
+        private final String field;
+        private final String code;
+
+        ErrorKey(String field, String code) {
+            this.field = field;
+            this.code = code;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ErrorKey)) {
+                return false;
+            }
+            ErrorKey other = (ErrorKey) o;
+            return field.equals(other.field) && code.equals(other.code);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * field.hashCode() + code.hashCode();
+        }
+    }
+}
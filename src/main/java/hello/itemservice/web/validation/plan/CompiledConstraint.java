@@ -0,0 +1,130 @@
+package hello.itemservice.web.validation.plan;
+
+import hello.itemservice.domain.rule.FieldRule;
+import hello.itemservice.domain.rule.FieldRuleValidator;
+import hello.itemservice.domain.rule.Rule;
+import hello.itemservice.domain.rule.ValidationRules;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.lang.Nullable;
+import org.springframework.validation.Errors;
+
+import javax.validation.MessageInterpolator;
+import javax.validation.ValidationException;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 필드 하나에 붙은 제약 조건 하나 - 검사, 오류 코드, 오류 인자, 기본 메시지를 미리 만들어 둠
+ *
+ * 오류 코드와 인자는 SpringValidatorAdapter 가 만드는 것과 같다.
+ * - 코드 : 애노테이션 이름 (NotBlank, Range, Max ...)
+ * - 인자 : [필드명(DefaultMessageSourceResolvable), message/groups/payload 를 뺀 속성을 이름순으로]
+ * 단, @FieldRule 은 FieldRuleValidatorFactoryBean 과 같이 코드, 인자 모두 지금 규칙 표에서 (규칙 종류, 규칙 인자)
+ */
+class CompiledConstraint {
+
+    private static final int MAX_CACHED_OBJECT_NAMES = 64;
+
+    private final String field;
+    private final String errorCode;
+    private final ConstraintCheck check;
+    private final ConstraintDescriptor<?> descriptor;
+    private final Object[] attributeArguments;
+    private final MessageInterpolator interpolator;
+    private final ValidationRules validationRules; // @FieldRule 이 아니면 null
+
+    // objectName 별 인자 배열, Locale 별 기본 메시지 - 요청마다 새로 만들지 않음
+    private final ConcurrentMap<String, Object[]> arguments = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Locale, String> messages = new ConcurrentHashMap<>();
+
+    CompiledConstraint(String field, ConstraintDescriptor<?> descriptor, ConstraintCheck check, MessageInterpolator interpolator,
+                       @Nullable ValidationRules validationRules) {
+        this.field = field;
+        this.errorCode = descriptor.getAnnotation().annotationType().getSimpleName();
+        this.check = check;
+        this.descriptor = descriptor;
+        this.attributeArguments = attributeArguments(descriptor);
+        this.interpolator = interpolator;
+        this.validationRules = descriptor.getAnnotation().annotationType() == FieldRule.class ? validationRules : null;
+    }
+
+    boolean isValid(Object value) {
+        return check.isValid(value);
+    }
+
+    String getErrorCode() {
+        Rule rule = rule();
+        return rule != null ? rule.getCode() : errorCode;
+    }
+
+    Object[] getArguments(String objectName) {
+        Rule rule = rule();
+        if (rule != null) {
+            return rule.getArguments();
+        }
+        Object[] cached = arguments.get(objectName);
+        if (cached != null) {
+            return cached;
+        }
+        Object[] created = new Object[attributeArguments.length + 1];
+        created[0] = new DefaultMessageSourceResolvable(
+                new String[]{objectName + Errors.NESTED_PATH_SEPARATOR + field, field}, field);
+        System.arraycopy(attributeArguments, 0, created, 1, attributeArguments.length);
+        if (arguments.size() < MAX_CACHED_OBJECT_NAMES) {
+            arguments.putIfAbsent(objectName, created);
+        }
+        return created;
+    }
+
+    String getDefaultMessage(Locale locale) {
+        // 메시지 템플릿은 애노테이션 속성만 참조하므로 (${...} 는 컴파일 대상에서 제외) Locale 별로 한 번만 만들면 됨
+        return messages.computeIfAbsent(locale,
+                key -> interpolator.interpolate(descriptor.getMessageTemplate(), new Context(), key));
+    }
+
+    @Nullable
+    private Rule rule() {
+        return validationRules != null ? FieldRuleValidator.ruleOf(descriptor, validationRules) : null;
+    }
+
+    private static Object[] attributeArguments(ConstraintDescriptor<?> descriptor) {
+        Map<String, Object> exposed = new TreeMap<>();
+        for (Map.Entry<String, Object> attribute : descriptor.getAttributes().entrySet()) {
+            String name = attribute.getKey();
+            if ("message".equals(name) || "groups".equals(name) || "payload".equals(name)) {
+                continue;
+            }
+            Object value = attribute.getValue();
+            if (value instanceof String) {
+                value = new DefaultMessageSourceResolvable(new String[]{(String) value}, (String) value);
+            }
+            exposed.put(name, value);
+        }
+        return exposed.values().toArray();
+    }
+
+    private class Context implements MessageInterpolator.Context {
+
+        @Override
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return descriptor;
+        }
+
+        @Override
+        public Object getValidatedValue() {
+            return null;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            if (type.isInstance(this)) {
+                return type.cast(this);
+            }
+            throw new ValidationException("Type " + type.getName() + " not supported for unwrapping.");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package hello.itemservice.web.validation.plan;
+
+import hello.itemservice.domain.rule.FieldRule;
+import hello.itemservice.domain.rule.ValidationRules;
+import org.hibernate.validator.constraints.Range;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 제약 조건 애노테이션 하나를 미리 해석해 둔 검사
+ * Bean Validation 과 같은 규칙으로 판단한다. (NotNull 외에는 null 을 통과시킴)
+ */
+interface ConstraintCheck {
+
+    boolean isValid(Object value);
+
+    /**
+     * 지원하는 제약 조건이면 검사를 만들고, 아니면 null (이 클래스는 Bean Validation 으로 검증)
+     * @FieldRule 은 규칙 표(validationRules)가 있을 때만 - 검사할 때마다 현재 표를 읽음
+     */
+    static ConstraintCheck of(ConstraintDescriptor<?> descriptor, Class<?> valueType, @Nullable ValidationRules validationRules) {
+        Class<? extends Annotation> type = descriptor.getAnnotation().annotationType();
+        Map<String, Object> attributes = descriptor.getAttributes();
+
+        if (type == NotNull.class) {
+            return value -> value != null;
+        }
+        if (type == NotBlank.class && CharSequence.class.isAssignableFrom(valueType)) {
+            // NotBlankValidator 와 같이 trim() 기준
+            return value -> value != null && value.toString().trim().length() > 0;
+        }
+        if (type == NotEmpty.class && CharSequence.class.isAssignableFrom(valueType)) {
+            return value -> value != null && ((CharSequence) value).length() > 0;
+        }
+        if (type == NotEmpty.class && Collection.class.isAssignableFrom(valueType)) {
+            return value -> value != null && !((Collection<?>) value).isEmpty();
+        }
+        if (!isIntegral(valueType)) {
+            return null;
+        }
+        if (type == Range.class) {
+            long min = (Long) attributes.get("min");
+            long max = (Long) attributes.get("max");
+            return value -> value == null || (((Number) value).longValue() >= min && ((Number) value).longValue() <= max);
+        }
+        if (type == Min.class) {
+            long min = (Long) attributes.get("value");
+            return value -> value == null || ((Number) value).longValue() >= min;
+        }
+        if (type == Max.class) {
+            long max = (Long) attributes.get("value");
+            return value -> value == null || ((Number) value).longValue() <= max;
+        }
+        if (type == FieldRule.class && validationRules != null) {
+            String ruleName = (String) attributes.get("value");
+            return value -> value == null || validationRules.current().require(ruleName).accepts(((Number) value).longValue());
+        }
+        return null;
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+                || type == int.class || type == long.class || type == short.class || type == byte.class;
+    }
+}
@@ -0,0 +1,126 @@
+package hello.itemservice.web.validation.plan;
+
+import hello.itemservice.domain.rule.FieldRuleValidatorAdapter;
+import hello.itemservice.domain.rule.FieldRuleValidatorFactoryBean;
+import hello.itemservice.domain.rule.ValidationRules;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ValidationPlan 으로 검증하는 Validator (WebConfig 에서 MVC 기본 Validator 로 등록)
+ *
+ * 계획을 만들 수 없는 클래스나 groups 를 지정한 검증(@Validated(SaveCheck.class))은
+ * 기존 LocalValidatorFactoryBean 에 그대로 맡긴다.
+ * FieldRuleValidatorFactoryBean 이면 @FieldRule 도 계획에 넣고, 오류 코드 / 인자는 그 빈과 같게 만든다.
+ */
+@Slf4j
+public class PlannedValidator implements SmartValidator {
+
+    private static final Object[] NO_HINTS = new Object[0];
+
+    private final LocalValidatorFactoryBean delegate;
+    private final ValidationRules validationRules; // FieldRuleValidatorFactoryBean 이 아니면 null
+    private final ValidationPlanCompiler compiler;
+    private final ConcurrentMap<Class<?>, Optional<ValidationPlan>> plans = new ConcurrentHashMap<>();
+    private volatile SpringValidatorAdapter failFastDelegate; // 처음 fail-fast 검증을 위임할 때 만듦
+
+    public PlannedValidator(LocalValidatorFactoryBean delegate) {
+        this.delegate = delegate;
+        this.validationRules = delegate instanceof FieldRuleValidatorFactoryBean
+                ? ((FieldRuleValidatorFactoryBean) delegate).getValidationRules() : null;
+        this.compiler = new ValidationPlanCompiler(delegate, delegate.getMessageInterpolator(), validationRules);
+    }
+
+    /**
+     * 시작 시점에 계획을 미리 만들어 둠 (첫 요청에서 메타데이터를 읽지 않도록)
+     */
+    public void precompile(Class<?>... types) {
+        for (Class<?> type : types) {
+            log.info("validation plan type={} compiled={}", type.getName(), plan(type) != null);
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, NO_HINTS);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        ValidationPlan plan = isDefaultGroup(validationHints) ? plan(target.getClass()) : null;
+        if (plan != null) {
+            plan.validate(target, errors);
+        } else {
+            delegate.validate(target, errors, validationHints);
+        }
+    }
+
+    /**
+     * 첫 번째 오류에서 멈추는 검증 (오류가 이미 있으면 검증하지 않음)
+     * 계획이 없거나 groups 를 지정한 경우는 Hibernate Validator 의 fail-fast 모드에 맡긴다.
+     */
+    public void validateFailFast(Object target, Errors errors, Object... validationHints) {
+        if (errors.hasErrors()) {
+            return;
+        }
+        ValidationPlan plan = isDefaultGroup(validationHints) ? plan(target.getClass()) : null;
+        if (plan != null) {
+            plan.validate(target, errors, true);
+        } else {
+            failFastDelegate().validate(target, errors, validationHints);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, @Nullable Object value, Errors errors, Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Nullable
+    ValidationPlan plan(Class<?> type) {
+        return plans.computeIfAbsent(type, key -> Optional.ofNullable(compiler.compile(key))).orElse(null);
+    }
+
+    private SpringValidatorAdapter failFastDelegate() {
+        SpringValidatorAdapter adapter = failFastDelegate;
+        if (adapter == null) {
+            // 같은 ValidatorFactory (메시지 보간, 제약 메타데이터 공유)에서 fail-fast 설정만 다른 Validator
+            // 동시에 두 번 만들어도 결과는 같으므로 lock 없이
+            // @FieldRule 오류 코드 / 인자도 delegate 와 같게 (FieldRuleValidatorAdapter)
+            Validator validator = delegate.unwrap(HibernateValidatorFactory.class)
+                    .usingContext()
+                    .failFast(true)
+                    .getValidator();
+            adapter = validationRules != null
+                    ? new FieldRuleValidatorAdapter(validator, validationRules)
+                    : new SpringValidatorAdapter(validator);
+            failFastDelegate = adapter;
+        }
+        return adapter;
+    }
+
+    private boolean isDefaultGroup(Object[] validationHints) {
+        for (Object hint : validationHints) {
+            if (hint != Default.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
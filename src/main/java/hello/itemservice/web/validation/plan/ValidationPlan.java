@@ -0,0 +1,95 @@
+package hello.itemservice.web.validation.plan;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 폼 클래스 하나의 검증 계획 - 시작 시점에 ValidationPlanCompiler 가 만듦
+ *
+ * 요청마다 Bean Validation 메타데이터를 따라가지 않고, 미리 만든 필드 getter(MethodHandle)와 검사만 실행한다.
+ * 오류가 없으면 아무것도 할당하지 않는다.
+ */
+public class ValidationPlan {
+
+    private final Class<?> type;
+    private final PropertyPlan[] properties;
+
+    ValidationPlan(Class<?> type, List<PropertyPlan> properties) {
+        this.type = type;
+        this.properties = properties.toArray(new PropertyPlan[0]);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, false);
+    }
+
+    /**
+     * @param failFast true 면 첫 번째 오류를 남기고 멈춤 (나머지 필드는 읽지도 않음)
+     */
+    public void validate(Object target, Errors errors, boolean failFast) {
+        for (PropertyPlan property : properties) {
+            Object value = property.read(target);
+            for (CompiledConstraint constraint : property.constraints) {
+                if (!constraint.isValid(value) && reject(errors, property.field, value, constraint) && failFast) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 오류를 남겼으면 true
+     */
+    private boolean reject(Errors errors, String field, Object value, CompiledConstraint constraint) {
+        // 타입 변환 실패가 이미 있는 필드는 건너뜀 (SpringValidatorAdapter 와 동일)
+        FieldError fieldError = errors.getFieldError(field);
+        if (fieldError != null && fieldError.isBindingFailure()) {
+            return false;
+        }
+        Locale locale = LocaleContextHolder.getLocale();
+        Object[] arguments = constraint.getArguments(errors.getObjectName());
+        String defaultMessage = constraint.getDefaultMessage(locale);
+        if (errors instanceof BindingResult) {
+            BindingResult bindingResult = (BindingResult) errors;
+            String[] codes = bindingResult.resolveMessageCodes(constraint.getErrorCode(), field);
+            bindingResult.addError(new FieldError(errors.getObjectName(), errors.getNestedPath() + field,
+                    value, false, codes, arguments, defaultMessage));
+        } else {
+            errors.rejectValue(field, constraint.getErrorCode(), arguments, defaultMessage);
+        }
+        return true;
+    }
+
+    static class PropertyPlan {
+
+        private final String field;
+        private final MethodHandle getter; // (Object) -> Object
+        private final CompiledConstraint[] constraints;
+
+        PropertyPlan(String field, MethodHandle getter, List<CompiledConstraint> constraints) {
+            this.field = field;
+            this.getter = getter;
+            this.constraints = constraints.toArray(new CompiledConstraint[0]);
+        }
+
+        Object read(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("failed to read " + field, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package hello.itemservice.web.validation.plan;
+
+import hello.itemservice.domain.rule.ValidationRules;
+import org.hibernate.validator.group.GroupSequenceProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import javax.validation.GroupSequence;
+import javax.validation.MessageInterpolator;
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.lang.annotation.ElementType;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bean Validation 메타데이터를 한 번 읽어서 ValidationPlan 을 만듦
+ *
+ * 다음 경우는 계획을 만들지 않고 null 을 반환한다. (기존 Bean Validation 으로 검증)
+ * - 클래스 레벨 제약 (@ScriptAssert 등), @Valid 하위 객체, 컨테이너 원소 제약
+ * - groups 가 지정된 제약, @GroupSequence
+ * - getter 에 붙은 제약, 지원하지 않는 제약 / 타입, ${...} 를 쓰는 메시지
+ * - 규칙 표(ValidationRules) 없이 만든 경우의 @FieldRule
+ */
+class ValidationPlanCompiler {
+
+    private static final Set<Class<?>> DEFAULT_GROUP = Collections.singleton(Default.class);
+
+    private final Validator validator;
+    private final MessageInterpolator interpolator;
+    private final ValidationRules validationRules;
+
+    ValidationPlanCompiler(Validator validator, MessageInterpolator interpolator, @Nullable ValidationRules validationRules) {
+        this.validator = validator;
+        this.interpolator = interpolator;
+        this.validationRules = validationRules;
+    }
+
+    ValidationPlan compile(Class<?> type) {
+        if (type.isAnnotationPresent(GroupSequence.class) || type.isAnnotationPresent(GroupSequenceProvider.class)) {
+            return null;
+        }
+        BeanDescriptor bean = validator.getConstraintsForClass(type);
+        if (!bean.getConstraintDescriptors().isEmpty()) {
+            return null;
+        }
+
+        List<ValidationPlan.PropertyPlan> properties = new ArrayList<>();
+        // 필드 선언 순서대로 (오류도 화면의 필드 순서대로 쌓임)
+        for (Field field : fields(type)) {
+            PropertyDescriptor property = bean.getConstraintsForProperty(field.getName());
+            if (property == null) {
+                continue;
+            }
+            ValidationPlan.PropertyPlan plan = compileProperty(field, property);
+            if (plan == null) {
+                return null;
+            }
+            properties.add(plan);
+        }
+        if (properties.size() != bean.getConstrainedProperties().size()) {
+            return null;
+        }
+        return new ValidationPlan(type, properties);
+    }
+
+    private ValidationPlan.PropertyPlan compileProperty(Field field, PropertyDescriptor property) {
+        if (property.isCascaded() || !property.getConstrainedContainerElementTypes().isEmpty()) {
+            return null;
+        }
+        Set<ConstraintDescriptor<?>> descriptors = property.getConstraintDescriptors();
+        if (property.findConstraints().declaredOn(ElementType.FIELD).getConstraintDescriptors().size() != descriptors.size()) {
+            return null;
+        }
+
+        List<CompiledConstraint> constraints = new ArrayList<>();
+        for (ConstraintDescriptor<?> descriptor : descriptors) {
+            if (!DEFAULT_GROUP.equals(descriptor.getGroups()) || descriptor.getMessageTemplate().contains("${")) {
+                return null;
+            }
+            ConstraintCheck check = ConstraintCheck.of(descriptor, field.getType(), validationRules);
+            if (check == null) {
+                return null;
+            }
+            constraints.add(new CompiledConstraint(field.getName(), descriptor, check, interpolator, validationRules));
+        }
+        return new ValidationPlan.PropertyPlan(field.getName(), getter(field), constraints);
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            return lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("cannot access " + field, e);
+        }
+    }
+
+    private static List<Field> fields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        ReflectionUtils.doWithFields(type, fields::add, field -> !Modifier.isStatic(field.getModifiers()));
+        return fields;
+    }
+}
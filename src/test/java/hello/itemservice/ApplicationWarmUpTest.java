@@ -0,0 +1,56 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApplicationWarmUpTest {
+
+    @Autowired
+    ApplicationWarmUp applicationWarmUp;
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    void validationTargets() {
+        //when
+        Map<Class<?>, Set<List<Class<?>>>> targets = applicationWarmUp.validationTargets();
+
+        //then
+        assertThat(targets).containsKeys(Item.class, ItemSaveForm.class, ItemUpdateForm.class);
+        assertThat(targets.get(Item.class)).contains(List.of(), List.of(SaveCheck.class), List.of(UpdateCheck.class));
+        assertThat(applicationWarmUp.warmUpValidators()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void warmUpMessages() {
+        assertThat(applicationWarmUp.warmUpMessages()).isGreaterThan(0);
+    }
+
+    @Test
+    void warmUpTemplates() {
+        //given
+        Set<String> paths = applicationWarmUp.pagePaths("1");
+
+        //when
+        int pages = applicationWarmUp.warmUpTemplates(port);
+
+        //then
+        assertThat(paths).contains("/validation/v1/items", "/validation/v4/items/add", "/validation/v4/items/1/edit");
+        assertThat(pages).isEqualTo(paths.size() * 2); // ko, en
+    }
+}
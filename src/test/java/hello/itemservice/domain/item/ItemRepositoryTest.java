@@ -3,7 +3,15 @@ package hello.itemservice.domain.item;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -46,6 +54,70 @@ class ItemRepositoryTest {
         assertThat(result).contains(item1, item2);
     }
 
+    @Test
+    void findPage() {
+        //given
+        for (int i = 0; i < 5; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+        List<Item> all = itemRepository.findAll();
+
+        //when
+        List<Item> result = itemRepository.findPage(2, 2);
+
+        //then
+        assertThat(result).containsExactly(all.get(2), all.get(3));
+    }
+
+    @Test
+    void findAfter() {
+        //given
+        for (int i = 0; i < 5; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+
+        //when
+        ItemPage firstPage = itemRepository.findAfter(null, 3);
+        ItemPage lastPage = itemRepository.findAfter(firstPage.getNextCursor(), 3);
+
+        //then
+        assertThat(firstPage.getItems()).hasSize(3);
+        assertThat(firstPage.getNextCursor()).isEqualTo(firstPage.getItems().get(2).getId());
+        assertThat(lastPage.getItems()).hasSize(2);
+        assertThat(lastPage.getItems().get(0).getId()).isGreaterThan(firstPage.getNextCursor());
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void search() {
+        //given
+        Item itemA = itemRepository.save(new Item("itemA", 10000, 10));
+        Item itemB = itemRepository.save(new Item("itemB", 20000, 5));
+        Item other = itemRepository.save(new Item("other", 30000, 100));
+
+        //when, then
+        assertThat(itemRepository.findByItemNamePrefix("item", 10)).containsExactly(itemA, itemB);
+        assertThat(itemRepository.findByPriceBetween(15000, 30000, 10)).containsExactly(itemB, other);
+        assertThat(itemRepository.findByQuantityAtMost(10, 10)).containsExactly(itemB, itemA);
+        assertThat(itemRepository.search(new ItemSearchCond("item", 15000, null, null), 10)).containsExactly(itemB);
+    }
+
+    @Test
+    void searchAfterUpdate() {
+        //given
+        Item savedItem = itemRepository.save(new Item("itemA", 10000, 10));
+        Long itemId = savedItem.getId();
+
+        //when
+        itemRepository.update(itemId, new Item("renamed", 50000, 1));
+
+        //then
+        assertThat(itemRepository.findByItemNamePrefix("item", 10)).isEmpty();
+        assertThat(itemRepository.findByPriceBetween(1000, 20000, 10)).isEmpty();
+        assertThat(itemRepository.findByItemNamePrefix("ren", 10))
+                .extracting(Item::getId).containsExactly(itemId);
+    }
+
     @Test
     void updateItem() {
         //given
@@ -65,4 +137,195 @@ class ItemRepositoryTest {
         assertThat(findItem.getPrice()).isEqualTo(updateParam.getPrice());
         assertThat(findItem.getQuantity()).isEqualTo(updateParam.getQuantity());
     }
+
+    @Test
+    void updateWithVersion() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Long itemId = savedItem.getId();
+
+        //when
+        boolean first = itemRepository.update(itemId, new Item("item2", 20000, 20), 0L);
+        boolean stale = itemRepository.update(itemId, new Item("item3", 30000, 30), 0L); // 같은 버전으로 연 다른 수정 폼
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(stale).isFalse();
+        Item findItem = itemRepository.findById(itemId);
+        assertThat(findItem.getItemName()).isEqualTo("item2");
+        assertThat(findItem.getVersion()).isEqualTo(1L);
+        assertThat(savedItem.getItemName()).isEqualTo("item1"); // 이전에 읽은 Item 은 바뀌지 않음
+    }
+
+    @Test
+    void catalogVersion() {
+        //given
+        long before = itemRepository.getCatalogVersion();
+
+        //when
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        long afterSave = itemRepository.getCatalogVersion();
+        itemRepository.update(savedItem.getId(), new Item("item2", 20000, 20), 5L); // 버전 충돌 - 바뀐 것 없음
+        long afterConflict = itemRepository.getCatalogVersion();
+
+        //then
+        assertThat(afterSave).isGreaterThan(before);
+        assertThat(afterConflict).isEqualTo(afterSave);
+    }
+
+    @Test
+    void catalogVersionUnknownItem() {
+        //given
+        itemRepository.save(new Item("item1", 10000, 10));
+        long before = itemRepository.getCatalogVersion();
+
+        //when - 없는 상품 수정은 바뀐 것 없음
+        itemRepository.update(999L, new Item("item2", 20000, 20));
+
+        //then
+        assertThat(itemRepository.getCatalogVersion()).isEqualTo(before);
+    }
+
+    @Test
+    void concurrentSave() throws InterruptedException {
+        //given
+        int threadCount = 16;
+        int savePerThread = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < savePerThread; j++) {
+                    itemRepository.save(new Item("item", 10000, 10));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        //then
+        List<Item> result = itemRepository.findAll();
+        assertThat(result.size()).isEqualTo(threadCount * savePerThread);
+
+        Set<Long> ids = new HashSet<>();
+        for (Item item : result) {
+            ids.add(item.getId());
+        }
+        assertThat(ids).hasSize(threadCount * savePerThread);
+    }
+
+    @Test
+    void concurrentUpdate() throws InterruptedException {
+        //given
+        Item savedItem = itemRepository.save(new Item("item", 10000, 10));
+        Long itemId = savedItem.getId();
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            int value = i;
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    itemRepository.update(itemId, new Item("item" + value, value, value));
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        //then
+        // 수정은 한 번에 적용되므로 필드들이 항상 같은 요청의 값이어야 함
+        Item findItem = itemRepository.findById(itemId);
+        assertThat(findItem.getItemName()).isEqualTo("item" + findItem.getPrice());
+        assertThat(findItem.getQuantity()).isEqualTo(findItem.getPrice());
+    }
+
+    @Test
+    void concurrentUpdateKeepsIndex() throws Exception {
+        //given - 첫 번째 수정이 저장소를 바꾼 뒤 인덱스를 고치기 전에 두 번째 수정이 끼어드는 상황
+        PausingItemStore store = new PausingItemStore();
+        ItemRepository repository = new ItemRepository(store);
+        Long itemId = repository.save(new Item("item", 1000, 10)).getId();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        //when - 1000 -> 2000 -> 1000
+        Future<?> first = executor.submit(() -> {
+            store.pausedThread = Thread.currentThread();
+            repository.update(itemId, new Item("item", 2000, 10));
+        });
+        assertThat(store.paused.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> second = executor.submit(() -> {
+            repository.update(itemId, new Item("item", 1000, 10));
+            store.resume.countDown();
+        });
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then - 마지막 값으로 검색하면 찾아져야 함
+        assertThat(repository.findById(itemId).getPrice()).isEqualTo(1000);
+        assertThat(repository.findByPriceBetween(1000, 1000, 10)).extracting(Item::getId).containsExactly(itemId);
+        assertThat(repository.findByPriceBetween(2000, 2000, 10)).isEmpty();
+    }
+
+    @Test
+    void concurrentUpdateWithVersion() throws InterruptedException {
+        //given
+        Long itemId = itemRepository.save(new Item("item", 10000, 10)).getId();
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        //when - 모두 버전 0 의 수정 폼을 동시에 제출
+        for (int i = 0; i < threadCount; i++) {
+            int value = i;
+            executor.submit(() -> {
+                start.await();
+                if (itemRepository.update(itemId, new Item("item" + value, value, value), 0L)) {
+                    succeeded.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        //then - 하나만 반영되고 나머지는 충돌
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(itemRepository.findById(itemId).getVersion()).isEqualTo(1L);
+    }
+
+    /**
+     * 지정한 스레드가 수정 후 값을 읽은 직후(두 번째 findById) 다른 수정이 끝나기를 잠시 기다리는 저장소
+     * 인덱스 갱신이 id 별로 줄을 서면 다른 수정은 끝날 수 없으므로 제한 시간 후 그대로 진행
+     */
+    static class PausingItemStore extends ConcurrentItemStore {
+
+        final CountDownLatch paused = new CountDownLatch(1);
+        final CountDownLatch resume = new CountDownLatch(1);
+        volatile Thread pausedThread;
+        private int calls;
+
+        @Override
+        public Item findById(Long id) {
+            Item item = super.findById(id);
+            if (Thread.currentThread() == pausedThread && ++calls == 2) {
+                paused.countDown();
+                try {
+                    resume.await(500, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return item;
+        }
+    }
 }
@@ -0,0 +1,167 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 저장소별 힙 사용량 비교 (기본 빌드에서는 실행하지 않음)
+ * ./gradlew test -Pfootprint --tests "*ItemStoreFootprintTest"
+ */
+@EnabledIfSystemProperty(named = "itemservice.footprint", matches = "true")
+class ItemStoreFootprintTest {
+
+    @Test
+    void footprint1M() {
+        compare(1_000_000);
+    }
+
+    @Test
+    void footprint10M() {
+        compare(10_000_000);
+    }
+
+    private void compare(int count) {
+        long hashMapBytes = measure(count, HashMapItemStore::new);
+        long concurrentBytes = measure(count, ConcurrentItemStore::new);
+        long primitiveBytes = measure(count, () -> new PrimitiveItemStore(count));
+
+        System.out.println("items = " + count);
+        System.out.println("HashMap store    = " + toMegaBytes(hashMapBytes) + "MB (" + hashMapBytes / count + " bytes/item)");
+        System.out.println("Concurrent store = " + toMegaBytes(concurrentBytes) + "MB (" + concurrentBytes / count + " bytes/item)");
+        System.out.println("Primitive store  = " + toMegaBytes(primitiveBytes) + "MB (" + primitiveBytes / count + " bytes/item)");
+
+        assertThat(primitiveBytes).isLessThan(hashMapBytes);
+    }
+
+    private long measure(int count, Supplier<ItemStore> storeFactory) {
+        long before = usedMemory();
+        ItemStore store = storeFactory.get();
+        String itemName = "item"; // 이름 문자열은 저장소 구조와 무관하므로 같은 인스턴스를 사용
+        for (int i = 0; i < count; i++) {
+            store.save(new Item(itemName, 1000 + (i % 1_000_000), i % 10_000));
+        }
+        long used = usedMemory() - before;
+        assertThat(store.findById((long) count)).isNotNull(); // 측정 전에 store 가 수거되지 않도록
+        assertThat(store.findAfter(count - 2L, 10)).extracting(Item::getId).containsExactly(count - 1L, (long) count);
+        return used;
+    }
+
+    private long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private long toMegaBytes(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+
+    /**
+     * 변경 전 ItemRepository 와 같은 구조 (HashMap<Long, Item>)
+     */
+    static class HashMapItemStore implements ItemStore {
+
+        private final Map<Long, Item> store = new HashMap<>();
+        private long sequence = 0L;
+
+        @Override
+        public Item save(Item item) {
+            item.setId(++sequence);
+            item.setVersion(0L);
+            store.put(item.getId(), item);
+            return item;
+        }
+
+        @Override
+        public Item findById(Long id) {
+            return store.get(id);
+        }
+
+        @Override
+        public List<Item> findAll() {
+            return new ArrayList<>(store.values());
+        }
+
+        // HashMap 은 순서가 없으므로 페이지마다 키를 정렬해서 자름
+        @Override
+        public List<Item> findPage(int offset, int limit) {
+            List<Long> ids = sortedIds();
+            int from = Math.min(Math.max(0, offset), ids.size());
+            int to = (int) Math.min(ids.size(), (long) from + Math.max(0, limit));
+            return toItems(ids.subList(from, to));
+        }
+
+        @Override
+        public List<Item> findAfter(long afterId, int limit) {
+            List<Long> ids = sortedIds();
+            int from = Collections.binarySearch(ids, afterId);
+            from = from >= 0 ? from + 1 : -from - 1;
+            int to = (int) Math.min(ids.size(), (long) from + Math.max(0, limit));
+            return toItems(ids.subList(from, to));
+        }
+
+        private List<Long> sortedIds() {
+            List<Long> ids = new ArrayList<>(store.keySet());
+            Collections.sort(ids);
+            return ids;
+        }
+
+        private List<Item> toItems(List<Long> ids) {
+            List<Item> items = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                items.add(store.get(id));
+            }
+            return items;
+        }
+
+        @Override
+        public void update(Long itemId, Item updateParam) {
+            store.computeIfPresent(itemId, (id, findItem) -> nextVersion(findItem, updateParam));
+        }
+
+        @Override
+        public boolean update(Long itemId, Item updateParam, long expectedVersion) {
+            Item findItem = store.get(itemId);
+            if (findItem == null || findItem.getVersion() == null || findItem.getVersion() != expectedVersion) {
+                return false;
+            }
+            store.put(itemId, nextVersion(findItem, updateParam));
+            return true;
+        }
+
+        @Override
+        public void clearStore() {
+            store.clear();
+        }
+
+        @Override
+        public int size() {
+            return store.size();
+        }
+
+        @Override
+        public void restore(Item item) {
+            store.put(item.getId(), item);
+            sequence = Math.max(sequence, item.getId());
+        }
+
+        // ConcurrentItemStore 와 같이 id, 버전은 저장된 상품에서 (updateParam 은 그대로 두고 새 Item 으로 교체)
+        private static Item nextVersion(Item findItem, Item updateParam) {
+            Item updatedItem = new Item(updateParam.getItemName(), updateParam.getPrice(), updateParam.getQuantity());
+            updatedItem.setId(findItem.getId());
+            updatedItem.setVersion(findItem.getVersion() + 1);
+            return updatedItem;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PrimitiveItemStoreTest {
+
+    PrimitiveItemStore store = new PrimitiveItemStore(16);
+
+    @Test
+    void saveAndFind() {
+        //given
+        Item item = new Item("itemA", 10000, 10);
+
+        //when
+        Item savedItem = store.save(item);
+
+        //then
+        Item findItem = store.findById(savedItem.getId());
+        assertThat(findItem).isEqualTo(savedItem);
+        assertThat(store.findById(savedItem.getId() + 1)).isNull();
+    }
+
+    @Test
+    void growBeyondInitialCapacity() {
+        //when
+        for (int i = 0; i < 1000; i++) {
+            store.save(new Item("item" + i, 1000 + i, i));
+        }
+
+        //then
+        List<Item> result = store.findAll();
+        assertThat(result).hasSize(1000);
+        for (Item item : result) {
+            assertThat(store.findById(item.getId())).isEqualTo(item);
+        }
+    }
+
+    @Test
+    void saveAll() {
+        //given
+        store.save(new Item("item0", 1000, 1));
+        List<Item> items = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            items.add(new Item("item" + i, 1000 + i, i));
+        }
+
+        //when
+        List<Item> savedItems = store.saveAll(items);
+
+        //then
+        assertThat(savedItems).hasSize(100);
+        assertThat(savedItems.get(0).getId()).isEqualTo(2L);
+        assertThat(savedItems.get(99).getId()).isEqualTo(101L);
+        for (Item item : savedItems) {
+            assertThat(store.findById(item.getId())).isEqualTo(item);
+        }
+    }
+
+    @Test
+    void findAfter() {
+        //given
+        for (int i = 0; i < 10; i++) {
+            store.save(new Item("item" + i, 1000, 1));
+        }
+        List<Item> all = store.findAll();
+
+        //when
+        List<Item> result = store.findAfter(all.get(3).getId(), 2);
+
+        //then
+        assertThat(result).containsExactly(all.get(4), all.get(5));
+        assertThat(store.findPage(8, 5)).containsExactly(all.get(8), all.get(9));
+    }
+
+    @Test
+    void nullValues() {
+        //given
+        Item savedItem = store.save(new Item(null, null, null));
+
+        //when
+        Item findItem = store.findById(savedItem.getId());
+
+        //then
+        assertThat(findItem.getItemName()).isNull();
+        assertThat(findItem.getPrice()).isNull();
+        assertThat(findItem.getQuantity()).isNull();
+    }
+
+    @Test
+    void updateItem() {
+        //given
+        Item savedItem = store.save(new Item("item1", 10000, 10));
+
+        //when
+        store.update(savedItem.getId(), new Item("item2", 20000, 30));
+
+        //then
+        Item findItem = store.findById(savedItem.getId());
+        assertThat(findItem.getItemName()).isEqualTo("item2");
+        assertThat(findItem.getPrice()).isEqualTo(20000);
+        assertThat(findItem.getQuantity()).isEqualTo(30);
+    }
+
+    @Test
+    void updateWithVersion() {
+        //given
+        Item savedItem = store.save(new Item("item1", 10000, 10));
+
+        //when
+        boolean updated = store.update(savedItem.getId(), new Item("item2", 20000, 30), 0L);
+        boolean conflict = store.update(savedItem.getId(), new Item("item3", 30000, 40), 0L);
+
+        //then
+        assertThat(updated).isTrue();
+        assertThat(conflict).isFalse();
+        Item findItem = store.findById(savedItem.getId());
+        assertThat(findItem.getItemName()).isEqualTo("item2");
+        assertThat(findItem.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void clearStore() {
+        //given
+        Item savedItem = store.save(new Item("item1", 10000, 10));
+
+        //when
+        store.clearStore();
+
+        //then
+        assertThat(store.findById(savedItem.getId())).isNull();
+        assertThat(store.findAll()).isEmpty();
+    }
+}
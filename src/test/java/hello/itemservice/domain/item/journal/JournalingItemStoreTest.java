@@ -0,0 +1,202 @@
+package hello.itemservice.domain.item.journal;
+
+import hello.itemservice.domain.item.ConcurrentItemStore;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemStore;
+import hello.itemservice.domain.item.PrimitiveItemStore;
+import hello.itemservice.domain.item.snapshot.ItemSnapshotWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JournalingItemStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recoverFromLog() throws IOException {
+        //given
+        JournalingItemStore store = open();
+        Item itemA = store.save(new Item("itemA", 10000, 10));
+        Item itemB = store.save(new Item("itemB", 20000, 20));
+        store.update(itemA.getId(), new Item("itemA2", 15000, 5));
+        crash(store);
+
+        //when
+        JournalingItemStore recovered = open();
+
+        //then
+        assertThat(recovered.findAll()).hasSize(2);
+        assertThat(recovered.findById(itemA.getId()).getItemName()).isEqualTo("itemA2");
+        assertThat(recovered.findById(itemB.getId()).getPrice()).isEqualTo(20000);
+        // 복구 후 발급되는 id 는 기존 id 와 겹치지 않아야 함
+        assertThat(recovered.save(new Item("itemC", 1000, 1)).getId()).isGreaterThan(itemB.getId());
+        recovered.close();
+    }
+
+    @Test
+    void recoverFromSnapshotAndLog() throws IOException {
+        //given
+        JournalingItemStore store = open();
+        Item itemA = store.save(new Item("itemA", 10000, 10));
+        store.snapshot();
+        Item itemB = store.save(new Item("itemB", 20000, 20));
+        store.update(itemA.getId(), new Item("itemA2", 15000, 5));
+        crash(store);
+
+        //when
+        JournalingItemStore recovered = open(new PrimitiveItemStore());
+
+        //then
+        assertThat(recovered.findAll()).containsExactly(
+                item(itemA.getId(), "itemA2", 15000, 5, 1L),
+                item(itemB.getId(), "itemB", 20000, 20, 0L));
+        recovered.close();
+    }
+
+    @Test
+    void recoverFromMappedSnapshotTwice() throws IOException {
+        //given - 매핑한 스냅샷 위에서 수정하고 다시 스냅샷
+        JournalingItemStore store = open();
+        Item itemA = store.save(new Item("itemA", 10000, 10));
+        Item itemB = store.save(new Item("itemB", 20000, 20));
+        store.close();
+        JournalingItemStore reopened = open();
+        reopened.update(itemA.getId(), new Item("itemA2", 15000, 5));
+        reopened.close();
+
+        //when
+        JournalingItemStore recovered = open();
+
+        //then
+        assertThat(recovered.size()).isEqualTo(2);
+        assertThat(recovered.findAll()).containsExactly(
+                item(itemA.getId(), "itemA2", 15000, 5, 1L),
+                item(itemB.getId(), "itemB", 20000, 20, 0L));
+        recovered.close();
+    }
+
+    @Test
+    void recoverSeedAfterCrash() throws IOException {
+        //given - seed 파일로 시작해서 상품 하나만 수정한 뒤 스냅샷 없이 종료
+        ConcurrentItemStore source = new ConcurrentItemStore();
+        for (int i = 1; i <= 10; i++) {
+            source.save(new Item("item" + i, i * 1000, i));
+        }
+        Path seed = dir.resolve("seed.dat");
+        ItemSnapshotWriter.write(source, seed);
+        JournalingItemStore store = open(seed);
+        store.update(3L, new Item("item3-2", 3500, 3));
+        crash(store);
+
+        //when
+        JournalingItemStore recovered = open(seed);
+
+        //then - 수정하지 않은 seed 상품도 모두 남아 있어야 함
+        assertThat(recovered.size()).isEqualTo(10);
+        assertThat(recovered.findById(3L).getItemName()).isEqualTo("item3-2");
+        assertThat(recovered.findById(10L).getItemName()).isEqualTo("item10");
+        assertThat(recovered.save(new Item("item11", 11000, 11)).getId()).isEqualTo(11L);
+        recovered.close();
+    }
+
+    @Test
+    void failedWriteIsNotApplied() throws IOException {
+        //given - 로그를 닫아서 이후 기록이 모두 실패하는 상황
+        JournalingItemStore store = open();
+        Item itemA = store.save(new Item("itemA", 10000, 10));
+        store.closeWithoutSnapshot();
+
+        //when
+        Throwable updateFailure = catchThrowable(() -> store.update(itemA.getId(), new Item("itemA2", 15000, 5)));
+        Throwable saveFailure = catchThrowable(() -> store.save(new Item("itemB", 20000, 20)));
+
+        //then - 메모리에도 반영되지 않음
+        assertThat(updateFailure).isInstanceOf(IllegalStateException.class);
+        assertThat(saveFailure).isInstanceOf(IllegalStateException.class);
+        assertThat(store.findById(itemA.getId()).getItemName()).isEqualTo("itemA");
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoreTornTail() throws IOException {
+        //given
+        JournalingItemStore store = open();
+        Item itemA = store.save(new Item("itemA", 10000, 10));
+        crash(store);
+        // 마지막 레코드를 쓰는 도중 종료된 상황
+        Path segment = ItemJournal.segmentFile(dir, 1);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 1, 2}));
+        }
+
+        //when
+        JournalingItemStore recovered = open();
+
+        //then
+        assertThat(recovered.findAll()).containsExactly(itemA);
+        recovered.close();
+    }
+
+    @Test
+    void concurrentWrites() throws Exception {
+        //given
+        JournalingItemStore store = open();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 200; j++) {
+                    store.save(new Item("item", 10000, 10));
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        crash(store);
+
+        //then
+        JournalingItemStore recovered = open();
+        assertThat(recovered.findAll()).hasSize(1600);
+        recovered.close();
+    }
+
+    private JournalingItemStore open() throws IOException {
+        return open(new ConcurrentItemStore());
+    }
+
+    private JournalingItemStore open(ItemStore delegate) throws IOException {
+        return new JournalingItemStore(delegate, dir, false, Duration.ofHours(1));
+    }
+
+    private JournalingItemStore open(Path seed) throws IOException {
+        return new JournalingItemStore(new ConcurrentItemStore(), dir, false, Duration.ofHours(1), seed);
+    }
+
+    /**
+     * 스냅샷 없이 종료 (비정상 종료 흉내)
+     */
+    private void crash(JournalingItemStore store) throws IOException {
+        store.closeWithoutSnapshot();
+    }
+
+    private Item item(Long id, String itemName, Integer price, Integer quantity, Long version) {
+        Item item = new Item(itemName, price, quantity);
+        item.setId(id);
+        item.setVersion(version);
+        return item;
+    }
+}
@@ -0,0 +1,124 @@
+package hello.itemservice.domain.item.snapshot;
+
+import hello.itemservice.domain.item.ConcurrentItemStore;
+import hello.itemservice.domain.item.Item;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MappedItemSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writeAndRead() throws IOException {
+        //given
+        ConcurrentItemStore store = new ConcurrentItemStore();
+        Item itemA = store.save(new Item("itemA", 10000, 10));
+        Item itemB = store.save(new Item("상품B", 20000, 20));
+        Item empty = store.save(new Item(null, null, null));
+        Path file = dir.resolve("items.dat");
+
+        //when
+        long count = ItemSnapshotWriter.write(store, file);
+
+        //then
+        assertThat(count).isEqualTo(3);
+        try (MappedItemSnapshot snapshot = MappedItemSnapshot.open(file)) {
+            assertThat(snapshot.size()).isEqualTo(3);
+            assertThat(snapshot.get(0)).isEqualTo(itemA);
+            assertThat(snapshot.get(1)).isEqualTo(itemB);
+            assertThat(snapshot.get(2)).isEqualTo(empty);
+            assertThat(snapshot.findById(itemB.getId())).isEqualTo(itemB);
+            assertThat(snapshot.findById(999L)).isNull();
+        }
+        assertThat(Files.list(dir)).containsExactly(file); // 임시 파일은 남지 않음
+    }
+
+    @Test
+    void keepLongVersion() throws IOException {
+        //given - int 범위를 넘는 버전도 잘리지 않아야 함
+        Item item = new Item("itemA", 10000, 10);
+        item.setId(1L);
+        item.setVersion(Integer.MAX_VALUE + 10L);
+        Path file = dir.resolve("items.dat");
+
+        //when
+        try (ItemSnapshotWriter writer = new ItemSnapshotWriter(file)) {
+            writer.write(item);
+            writer.finish();
+        }
+
+        //then
+        try (MappedItemSnapshot snapshot = MappedItemSnapshot.open(file)) {
+            assertThat(snapshot.get(0).getVersion()).isEqualTo(Integer.MAX_VALUE + 10L);
+        }
+    }
+
+    @Test
+    void readVersion1() throws IOException {
+        //given - 32 bytes 레코드, 상품 버전은 28 번째 int
+        byte[] name = "itemA".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(32 + 32 + name.length);
+        buffer.putInt(0x49544D53).putInt(1).putLong(1L).putLong(64L).putLong(0L);
+        buffer.putLong(7L).putInt(10000).putInt(10).putLong(0L).putInt(name.length).putInt(3);
+        buffer.put(name);
+        Path file = dir.resolve("v1.dat");
+        Files.write(file, buffer.array());
+
+        //when
+        try (MappedItemSnapshot snapshot = MappedItemSnapshot.open(file)) {
+            Item item = snapshot.findById(7L);
+
+            //then
+            assertThat(item.getItemName()).isEqualTo("itemA");
+            assertThat(item.getPrice()).isEqualTo(10000);
+            assertThat(item.getQuantity()).isEqualTo(10);
+            assertThat(item.getVersion()).isEqualTo(3L);
+        }
+    }
+
+    @Test
+    void emptySnapshot() throws IOException {
+        //given
+        Path file = dir.resolve("empty.dat");
+
+        //when
+        ItemSnapshotWriter.write(new ConcurrentItemStore(), file);
+
+        //then
+        try (MappedItemSnapshot snapshot = MappedItemSnapshot.open(file)) {
+            assertThat(snapshot.size()).isZero();
+            assertThat(snapshot.findById(1L)).isNull();
+        }
+    }
+
+    @Test
+    void rejectUnorderedIds() throws IOException {
+        Item item1 = new Item("item1", 1000, 1);
+        item1.setId(2L);
+        Item item2 = new Item("item2", 1000, 1);
+        item2.setId(1L);
+
+        try (ItemSnapshotWriter writer = new ItemSnapshotWriter(dir.resolve("items.dat"))) {
+            writer.write(item1);
+            assertThatThrownBy(() -> writer.write(item2)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void rejectOtherFiles() throws IOException {
+        Path file = dir.resolve("other.dat");
+        Files.write(file, new byte[64]);
+
+        assertThatThrownBy(() -> MappedItemSnapshot.open(file)).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,125 @@
+package hello.itemservice.domain.item.snapshot;
+
+import hello.itemservice.domain.item.ConcurrentItemStore;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SnapshotItemStoreTest {
+
+    @TempDir
+    Path dir;
+
+    SnapshotItemStore store;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        // 스냅샷에 id 1 ~ 10 상품
+        ConcurrentItemStore source = new ConcurrentItemStore();
+        for (int i = 1; i <= 10; i++) {
+            source.save(new Item("item" + i, i * 1000, i));
+        }
+        Path file = dir.resolve("items.dat");
+        ItemSnapshotWriter.write(source, file);
+        store = new SnapshotItemStore(MappedItemSnapshot.open(file), new ConcurrentItemStore());
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void readFromSnapshot() {
+        assertThat(store.size()).isEqualTo(10);
+        assertThat(store.findById(3L).getItemName()).isEqualTo("item3");
+        assertThat(store.findById(11L)).isNull();
+        assertThat(store.findAll()).extracting(Item::getId).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void updateAndSave() {
+        //when
+        store.update(3L, new Item("item3-2", 3500, 3));
+        assertThat(store.update(4L, new Item("item4-2", 4500, 4), 0L)).isTrue();
+        assertThat(store.update(4L, new Item("item4-3", 4500, 4), 0L)).isFalse();
+        Item saved = store.save(new Item("item11", 11000, 11));
+
+        //then
+        assertThat(saved.getId()).isEqualTo(11L); // 스냅샷의 마지막 id 다음부터
+        assertThat(store.size()).isEqualTo(11);
+        assertThat(store.findById(3L).getItemName()).isEqualTo("item3-2");
+        assertThat(store.findById(4L).getVersion()).isEqualTo(1L);
+        // 같은 id 는 바뀐 상품으로 한 번만
+        assertThat(store.findAll()).extracting(Item::getItemName).containsExactly(
+                "item1", "item2", "item3-2", "item4-2", "item5", "item6", "item7", "item8", "item9", "item10", "item11");
+    }
+
+    @Test
+    void pages() {
+        //given
+        store.update(5L, new Item("item5-2", 5000, 5));
+        store.save(new Item("item11", 11000, 11));
+
+        //when
+        List<Item> after = store.findAfter(4L, 3);
+        List<Item> page = store.findPage(8, 5);
+
+        //then
+        assertThat(after).extracting(Item::getItemName).containsExactly("item5-2", "item6", "item7");
+        assertThat(page).extracting(Item::getId).containsExactly(9L, 10L, 11L);
+    }
+
+    @Test
+    void restore() {
+        //given
+        Item item = new Item("item3-2", 3500, 3);
+        item.setId(3L);
+        item.setVersion(5L);
+        Item newItem = new Item("item20", 20000, 20);
+        newItem.setId(20L);
+
+        //when
+        store.restore(item);
+        store.restore(newItem);
+
+        //then
+        assertThat(store.size()).isEqualTo(11);
+        assertThat(store.findById(3L).getVersion()).isEqualTo(5L);
+        assertThat(store.save(new Item("item21", 21000, 21)).getId()).isEqualTo(21L);
+    }
+
+    @Test
+    void clearStore() {
+        //when
+        store.clearStore();
+
+        //then
+        assertThat(store.size()).isZero();
+        assertThat(store.findById(1L)).isNull();
+        assertThat(store.findAll()).isEmpty();
+        assertThat(store.save(new Item("item", 1000, 1)).getId()).isEqualTo(11L);
+    }
+
+    @Test
+    void searchBuildsIndexLazily() {
+        //given - 스냅샷에만 있는 상품도 처음 검색할 때 인덱스에 들어감
+        ItemRepository itemRepository = new ItemRepository(store);
+        itemRepository.update(2L, new Item("item2", 9500, 2));
+
+        //when
+        List<Item> result = itemRepository.findByPriceBetween(9000, 10000, 10);
+
+        //then
+        assertThat(result).extracting(Item::getId).containsExactly(9L, 2L, 10L);
+    }
+}
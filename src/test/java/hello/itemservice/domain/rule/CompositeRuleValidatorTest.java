@@ -0,0 +1,143 @@
+package hello.itemservice.domain.rule;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.ObjectError;
+
+import java.util.Properties;
+
+import static hello.itemservice.domain.rule.CompositeRule.Operation.MAX;
+import static hello.itemservice.domain.rule.CompositeRule.Operation.SUM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompositeRuleValidatorTest {
+
+    CompositeRuleValidator validator = new CompositeRuleValidator();
+
+    @Test
+    void valid() {
+        //given
+        Item item = new Item("itemA", 10000, 1);
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+
+        //when
+        validator.validate(item, bindingResult);
+
+        //then
+        assertThat(bindingResult.hasErrors()).isFalse();
+    }
+
+    @Test
+    void totalPriceMin() {
+        //given
+        Item item = new Item("itemA", 1000, 9);
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+
+        //when
+        validator.validate(item, bindingResult);
+
+        //then
+        ObjectError error = bindingResult.getGlobalError();
+        assertThat(error.getCodes()).containsExactly("totalPriceMin.item", "totalPriceMin");
+        assertThat(error.getArguments()).containsExactly(10000L, 9000L);
+    }
+
+    @Test
+    void noIntOverflow() {
+        //given - int 로 곱하면 음수가 되어 totalPriceMin 에 걸리던 값
+        ItemUpdateForm form = new ItemUpdateForm();
+        form.setPrice(1000000);
+        form.setQuantity(3000);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+
+        //when
+        validator.validate(form, bindingResult);
+
+        //then
+        assertThat(bindingResult.hasErrors()).isFalse();
+    }
+
+    @Test
+    void skipWhenFieldMissing() {
+        //given
+        Item item = new Item("itemA", null, 1);
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+
+        //when
+        validator.validate(item, bindingResult);
+
+        //then
+        assertThat(bindingResult.hasErrors()).isFalse();
+    }
+
+    @Test
+    void sumAndMax() {
+        //given
+        Limits limits = new Limits();
+        limits.setA(Long.MAX_VALUE);
+        limits.setB(1);
+        BindingResult bindingResult = new BeanPropertyBindingResult(limits, "limits");
+
+        //when
+        validator.validate(limits, bindingResult);
+
+        //then - 합은 Long.MAX_VALUE 로 고정되어 sumMax 에 걸림
+        assertThat(bindingResult.getGlobalErrors()).extracting(ObjectError::getCode)
+                .containsExactly("sumMax", "maxMax");
+        assertThat(bindingResult.getGlobalErrors().get(0).getArguments()).containsExactly(100L, Long.MAX_VALUE);
+    }
+
+    @Test
+    void failFast() {
+        //given - sumMax, maxMax 모두 어김
+        Limits limits = new Limits();
+        limits.setA(Long.MAX_VALUE);
+        limits.setB(1);
+        BindingResult bindingResult = new BeanPropertyBindingResult(limits, "limits");
+
+        //when
+        validator.validateFailFast(limits, bindingResult);
+
+        //then
+        assertThat(bindingResult.getAllErrors()).extracting(ObjectError::getCode).containsExactly("sumMax");
+    }
+
+    @Test
+    void ruleTableOverridesCompositeBounds() {
+        //given - 규칙 표의 totalPriceMin 을 바꾸면 @CompositeRule 기준값도 바뀜
+        Properties properties = new Properties();
+        properties.setProperty("totalPriceMin.min", "50000");
+        ValidationRules rules = new ValidationRules(RuleTable.loadDefaults().overlay(RuleTable.parse(properties)));
+        Item item = new Item("itemA", 10000, 2);
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+
+        //when
+        new CompositeRuleValidator(rules).validate(item, bindingResult);
+
+        //then
+        assertThat(bindingResult.getGlobalError().getArguments()).containsExactly(50000L, 20000L);
+    }
+
+    @Test
+    void unknownField() {
+        assertThatThrownBy(() -> validator.hasRules(Broken.class))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Data
+    @CompositeRule(code = "sumMax", operation = SUM, fields = {"a", "b"}, max = 100)
+    @CompositeRule(code = "maxMax", operation = MAX, fields = {"a", "b"}, max = 100)
+    static class Limits {
+        private Long a;
+        private int b;
+    }
+
+    @CompositeRule(code = "broken", operation = SUM, fields = {"missing"})
+    static class Broken {
+    }
+}
@@ -0,0 +1,123 @@
+package hello.itemservice.domain.rule;
+
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class FieldRuleValidatorTest {
+
+    FieldRuleValidatorFactoryBean validatorFactory = new FieldRuleValidatorFactoryBean();
+
+    @BeforeEach
+    void beforeEach() {
+        validatorFactory.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void afterEach() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void valid() {
+        //given
+        ItemSaveForm form = form(10000, 10);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+
+        //when
+        validatorFactory.validate(form, bindingResult);
+
+        //then
+        assertThat(bindingResult.hasErrors()).isFalse();
+    }
+
+    @Test
+    void fieldRules() {
+        //given
+        ItemSaveForm form = form(100, 10000);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+
+        //when
+        validatorFactory.validate(form, bindingResult);
+
+        //then - 오류 코드, 인자 모두 규칙 표에서
+        assertThat(bindingResult.getFieldErrors()).extracting(FieldError::getField, FieldError::getCode)
+                .containsExactlyInAnyOrder(tuple("price", "range"), tuple("quantity", "max"));
+        assertThat(bindingResult.getFieldError("price").getCodes()).startsWith("range.item.price");
+        assertThat(bindingResult.getFieldError("price").getArguments()).containsExactly(1000L, 1000000L);
+        assertThat(bindingResult.getFieldError("quantity").getArguments()).containsExactly(9999L);
+    }
+
+    @Test
+    void ruleTableChange() {
+        //given - 규칙 표의 quantity 를 바꾸면 검사, 오류 인자 모두 바뀜
+        Properties properties = new Properties();
+        properties.setProperty("quantity.max", "100");
+        ValidationRules rules = new ValidationRules(RuleTable.loadDefaults().overlay(RuleTable.parse(properties)));
+        FieldRuleValidatorFactoryBean factoryBean = new FieldRuleValidatorFactoryBean(rules);
+        factoryBean.afterPropertiesSet();
+        ItemSaveForm form = form(10000, 500);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+
+        //when
+        factoryBean.validate(form, bindingResult);
+        factoryBean.close();
+
+        //then
+        assertThat(bindingResult.getFieldError("quantity").getCode()).isEqualTo("max");
+        assertThat(bindingResult.getFieldError("quantity").getArguments()).containsExactly(100L);
+    }
+
+    @Test
+    void failFastAdapter() {
+        //given
+        ItemSaveForm form = form(100, 10000);
+        FieldRuleValidatorAdapter adapter = new FieldRuleValidatorAdapter(validatorFactory.unwrap(HibernateValidatorFactory.class)
+                .usingContext()
+                .failFast(true)
+                .getValidator(), validatorFactory.getValidationRules());
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+
+        //when
+        adapter.validate(form, bindingResult);
+
+        //then - 오류 하나만, 코드는 규칙 종류
+        assertThat(bindingResult.getErrorCount()).isEqualTo(1);
+        assertThat(bindingResult.getFieldError().getCode()).isIn("range", "max");
+    }
+
+    @Test
+    void plainValidatorFactory() {
+        //given - 기본 ValidatorFactory 에서도 @Validated 만으로 검사됨 (코드는 애노테이션 이름)
+        LocalValidatorFactoryBean plain = new LocalValidatorFactoryBean();
+        plain.afterPropertiesSet();
+        ItemSaveForm form = form(100, 10);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+
+        //when
+        plain.validate(form, bindingResult);
+        plain.close();
+
+        //then
+        assertThat(bindingResult.getFieldError("price").getCode()).isEqualTo("FieldRule");
+    }
+
+    private ItemSaveForm form(Integer price, Integer quantity) {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(price);
+        form.setQuantity(quantity);
+        return form;
+    }
+}
@@ -0,0 +1,121 @@
+package hello.itemservice.domain.rule;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValidationRulesTest {
+
+    @TempDir
+    Path dir;
+    ValidationRules validationRules;
+
+    @AfterEach
+    void afterEach() {
+        if (validationRules != null) {
+            validationRules.shutdown();
+        }
+    }
+
+    @Test
+    void defaults() {
+        //when
+        RuleTable table = RuleTable.loadDefaults();
+
+        //then
+        assertThat(table.require("price").getArguments()).containsExactly(1000L, 1000000L);
+        assertThat(table.require("quantity").getArguments()).containsExactly(9999L);
+        assertThat(table.require("quantity").accepts(9999)).isTrue();
+        assertThat(table.require("quantity").accepts(10000)).isFalse();
+        assertThat(table.require("totalPriceMin").getMin()).isEqualTo(10000L);
+    }
+
+    @Test
+    void describe() {
+        //given - 규칙 표에서 quantity 를 최소 규칙으로 바꿈
+        RuleTable table = RuleTable.loadDefaults().overlay(RuleTable.parse(properties("quantity.min", "10")));
+
+        //then - 메시지는 규칙 종류에 맞춰 만들어짐
+        assertThat(table.require("price").describe("가격은")).isEqualTo("가격은 1,000 ~ 1,000,000 까지 허용합니다.");
+        assertThat(table.require("quantity").describe("수량은")).isEqualTo("수량은 최소 10 이상이어야 합니다.");
+        assertThat(RuleTable.loadDefaults().require("quantity").describe("수량은")).isEqualTo("수량은 최대 9,999까지 허용합니다.");
+    }
+
+    @Test
+    void parseErrors() {
+        assertThatThrownBy(() -> RuleTable.parse(properties("price.between", "1,2")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RuleTable.parse(properties("price.range", "1000")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RuleTable.parse(properties("price.range", "100,10")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RuleTable.parse(properties("quantity.max", "many")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void reloadFile() throws IOException {
+        //given - 파일에 없는 규칙은 기본값
+        Path file = dir.resolve("validation-rules.properties");
+        Files.writeString(file, "quantity.max=500\n");
+        validationRules = new ValidationRules(file.toString(), Duration.ofHours(1));
+        RuleTable before = validationRules.current();
+
+        //when
+        Files.writeString(file, "quantity.max=100\ntotalPriceMin.min=20000\n");
+        RuleTable after = validationRules.reload();
+
+        //then - 이전 표는 그대로 (읽고 있던 검증에 영향 없음)
+        assertThat(before.require("quantity").getMax()).isEqualTo(500L);
+        assertThat(after.require("quantity").getArguments()).containsExactly(100L);
+        assertThat(after.require("totalPriceMin").getMin()).isEqualTo(20000L);
+        assertThat(after.require("price").getArguments()).containsExactly(1000L, 1000000L);
+        assertThat(validationRules.current()).isSameAs(after);
+    }
+
+    @Test
+    void keepPreviousRulesWhenFileIsBroken() throws IOException {
+        //given
+        Path file = dir.resolve("validation-rules.properties");
+        Files.writeString(file, "quantity.max=500\n");
+        validationRules = new ValidationRules(file.toString(), Duration.ofHours(1));
+        RuleTable before = validationRules.current();
+
+        //when
+        Files.writeString(file, "quantity.max=five hundred\n");
+
+        //then
+        assertThatThrownBy(() -> validationRules.reload()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(validationRules.current()).isSameAs(before);
+    }
+
+    @Test
+    void missingFileUsesDefaults() throws IOException {
+        //given
+        Path file = dir.resolve("validation-rules.properties");
+        Files.writeString(file, "quantity.max=500\n");
+        validationRules = new ValidationRules(file.toString(), Duration.ofHours(1));
+
+        //when
+        Files.delete(file);
+        RuleTable table = validationRules.reload();
+
+        //then
+        assertThat(table.require("quantity").getMax()).isEqualTo(9999L);
+    }
+
+    private Properties properties(String key, String value) {
+        Properties properties = new Properties();
+        properties.setProperty(key, value);
+        return properties;
+    }
+}
@@ -0,0 +1,87 @@
+package hello.itemservice.message;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.FieldError;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CachingMessageSourceTest {
+
+    CachingMessageSource ms;
+
+    @BeforeEach
+    void beforeEach() {
+        ResourceBundleMessageSource delegate = new ResourceBundleMessageSource();
+        delegate.setBasenames("messages", "errors");
+        delegate.setDefaultEncoding("UTF-8");
+        delegate.setFallbackToSystemLocale(false);
+        ms = new CachingMessageSource(delegate, 100);
+    }
+
+    @Test
+    void cacheMessage() {
+        String first = ms.getMessage("hello.name", new Object[]{"Spring"}, Locale.KOREA);
+        String second = ms.getMessage("hello.name", new Object[]{"Spring"}, Locale.KOREA);
+
+        assertThat(first).isEqualTo("안녕 Spring");
+        assertThat(second).isEqualTo(first);
+        assertThat(ms.getMissCount()).isEqualTo(1);
+        assertThat(ms.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void localeIsPartOfKey() {
+        assertThat(ms.getMessage("hello", null, Locale.KOREA)).isEqualTo("안녕");
+        assertThat(ms.getMessage("hello", null, Locale.ENGLISH)).isEqualTo("hello");
+        assertThat(ms.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void fieldError() {
+        //given
+        String[] codes = {"range.item.price", "range.price", "range.java.lang.Integer", "range"};
+        Object[] args = {1000, 1000000};
+        FieldError error1 = new FieldError("item", "price", 10, false, codes, args, null);
+        FieldError error2 = new FieldError("item", "price", 20, false, codes, args, null);
+
+        //when
+        String message1 = ms.getMessage(error1, Locale.KOREA);
+        String message2 = ms.getMessage(error2, Locale.KOREA);
+
+        //then 거부된 값이 달라도 메시지는 같으므로 캐시 사용
+        assertThat(message1).isEqualTo("가격은 1,000 ~ 1,000,000 까지 허용합니다.");
+        assertThat(message2).isEqualTo(message1);
+        assertThat(ms.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void resolvableArgument() {
+        DefaultMessageSourceResolvable field = new DefaultMessageSourceResolvable(new String[]{"item.itemName", "itemName"}, "itemName");
+        FieldError error = new FieldError("item", "itemName", " ", false, new String[]{"NotBlank"}, new Object[]{field}, null);
+
+        ms.getMessage(error, Locale.KOREA);
+        ms.getMessage(error, Locale.KOREA);
+
+        assertThat(ms.getHitCount()).isEqualTo(1);
+        assertThat(ms.size()).isEqualTo(1);
+    }
+
+    @Test
+    void notFoundMessageCodeIsNotCached() {
+        assertThatThrownBy(() -> ms.getMessage("no_code", null, Locale.KOREA))
+                .isInstanceOf(NoSuchMessageException.class);
+        assertThat(ms.size()).isEqualTo(0);
+    }
+
+    @Test
+    void notCacheableArgument() {
+        ms.getMessage("hello.name", new Object[]{new StringBuilder("Spring")}, Locale.KOREA);
+        assertThat(ms.size()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,108 @@
+package hello.itemservice.web.validation.async;
+
+import hello.itemservice.domain.item.ConcurrentItemStore;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 동기(v3) / 비동기(v4) 등록 처리량 비교 (기본 빌드에서는 실행하지 않음)
+ * ./gradlew test -Ploadtest --tests "*AsyncItemLoadTest"
+ *
+ * 저장에 20ms 가 걸리는 저장소(원격/디스크 저장소 가정)와 워커 스레드 8개짜리 톰캣으로 실행한다.
+ * 동기 핸들러는 워커 스레드 수만큼만 동시에 저장할 수 있지만, 비동기 핸들러는 itemTaskExecutor 크기만큼 동시에 저장한다.
+ */
+@EnabledIfSystemProperty(named = "itemservice.loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=8",
+        "itemservice.async.pool-size=128"
+})
+class AsyncItemLoadTest {
+
+    static final int CLIENTS = 64;
+    static final int REQUESTS = 2000;
+    static final long STORE_LATENCY_MILLIS = 20;
+
+    @LocalServerPort
+    int port;
+
+    HttpClient client = HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NEVER).build();
+
+    @Test
+    void asyncThroughput() throws Exception {
+        run("/validation/v3/items/add", REQUESTS / 10); // 워밍업
+        run("/validation/v4/items/add", REQUESTS / 10);
+
+        double sync = run("/validation/v3/items/add", REQUESTS);
+        double async = run("/validation/v4/items/add", REQUESTS);
+
+        System.out.println("sync  (v3) = " + (long) sync + " req/s");
+        System.out.println("async (v4) = " + (long) async + " req/s");
+        assertThat(async).isGreaterThan(sync * 2);
+    }
+
+    /**
+     * @return 초당 처리한 요청 수
+     */
+    private double run(String path, int requests) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("itemName=itemA&price=10000&quantity=10"))
+                .build();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            long start = System.nanoTime();
+            List<Future<Integer>> responses = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                responses.add(clients.submit(() -> client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+            }
+            for (Future<Integer> response : responses) {
+                assertThat(response.get()).isEqualTo(302); // 저장 후 상품 상세로 리다이렉트
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            return requests / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @TestConfiguration
+    static class SlowStoreConfig {
+
+        @Bean
+        @Primary
+        ItemStore slowItemStore() {
+            return new ConcurrentItemStore() {
+                @Override
+                public Item save(Item item) {
+                    try {
+                        Thread.sleep(STORE_LATENCY_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return super.save(item);
+                }
+            };
+        }
+    }
+}
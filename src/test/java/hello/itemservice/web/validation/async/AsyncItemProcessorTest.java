@@ -0,0 +1,111 @@
+package hello.itemservice.web.validation.async;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.rule.CompositeRuleValidator;
+import hello.itemservice.domain.rule.FieldRuleValidatorFactoryBean;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import hello.itemservice.web.validation.metrics.ValidationMetrics;
+import hello.itemservice.web.validation.plan.PlannedValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncItemProcessorTest {
+
+    LocalValidatorFactoryBean validatorFactory = new FieldRuleValidatorFactoryBean();
+    ItemRepository itemRepository = new ItemRepository();
+    AsyncItemProcessor asyncItemProcessor;
+
+    @BeforeEach
+    void beforeEach() {
+        validatorFactory.afterPropertiesSet();
+        // 호출한 스레드에서 바로 실행
+        asyncItemProcessor = new AsyncItemProcessor(new TaskExecutorAdapter(Runnable::run),
+                new PlannedValidator(validatorFactory), new ValidationMetrics(new SimpleMeterRegistry()),
+                new CompositeRuleValidator(), itemRepository);
+    }
+
+    @AfterEach
+    void afterEach() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void update() {
+        //given
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        ItemUpdateForm form = updateForm(item.getId(), 0L);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+
+        //when
+        boolean updated = asyncItemProcessor.update(item.getId(), form, bindingResult).join();
+
+        //then
+        assertThat(updated).isTrue();
+        assertThat(itemRepository.findById(item.getId()).getItemName()).isEqualTo("itemB");
+    }
+
+    @Test
+    void rejectMissingVersion() {
+        //given - 버전이 없으면 다른 사용자의 수정을 덮어쓰지 않도록 거절
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        ItemUpdateForm form = updateForm(item.getId(), null);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+
+        //when
+        boolean updated = asyncItemProcessor.update(item.getId(), form, bindingResult).join();
+
+        //then
+        assertThat(updated).isFalse();
+        assertThat(bindingResult.getFieldError("version")).isNotNull();
+        assertThat(itemRepository.findById(item.getId()).getItemName()).isEqualTo("itemA");
+    }
+
+    @Test
+    void versionConflict() {
+        //given
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.update(item.getId(), new Item("itemC", 10000, 10));
+        ItemUpdateForm form = updateForm(item.getId(), 0L);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+
+        //when
+        boolean updated = asyncItemProcessor.update(item.getId(), form, bindingResult).join();
+
+        //then
+        assertThat(updated).isFalse();
+        assertThat(bindingResult.getGlobalError().getCode()).isEqualTo("versionConflict");
+    }
+
+    @Test
+    void itemNotFound() {
+        //given
+        ItemUpdateForm form = updateForm(999L, 0L);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+
+        //when
+        boolean updated = asyncItemProcessor.update(999L, form, bindingResult).join();
+
+        //then
+        assertThat(updated).isFalse();
+        assertThat(bindingResult.getGlobalError().getCode()).isEqualTo("itemNotFound");
+    }
+
+    private ItemUpdateForm updateForm(Long id, Long version) {
+        ItemUpdateForm form = new ItemUpdateForm();
+        form.setId(id);
+        form.setItemName("itemB");
+        form.setPrice(10000);
+        form.setQuantity(10);
+        form.setVersion(version);
+        return form;
+    }
+}
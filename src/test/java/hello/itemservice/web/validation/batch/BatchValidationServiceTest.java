@@ -0,0 +1,107 @@
+package hello.itemservice.web.validation.batch;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.rule.CompositeRuleValidator;
+import hello.itemservice.domain.rule.FieldRuleValidatorFactoryBean;
+import hello.itemservice.domain.rule.ValidationRules;
+import hello.itemservice.web.validation.ItemValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.plan.PlannedValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BatchValidationServiceTest {
+
+    ValidationRules validationRules = ValidationRules.defaults();
+    LocalValidatorFactoryBean validatorFactory = new FieldRuleValidatorFactoryBean(validationRules);
+    CompositeRuleValidator compositeRuleValidator = new CompositeRuleValidator(validationRules);
+    BatchValidationService batchValidationService;
+
+    @BeforeEach
+    void beforeEach() {
+        validatorFactory.afterPropertiesSet();
+        batchValidationService = new BatchValidationService(new PlannedValidator(validatorFactory), compositeRuleValidator, 4);
+    }
+
+    @AfterEach
+    void afterEach() {
+        batchValidationService.shutdown();
+        validatorFactory.close();
+    }
+
+    @Test
+    void validateForms() {
+        //given - 1000 개마다 하나씩 오류 (여러 구간으로 나뉘어 검증되도록 MIN_CHUNK 보다 많이)
+        int total = BatchValidationService.MIN_CHUNK * 40;
+        List<ItemSaveForm> forms = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            forms.add(form(i % 1000 == 0 ? " " : "item" + i, 10000, 10));
+        }
+        forms.set(1, form("item1", 1000, 1)); // 가격 * 수량 = 1000
+
+        //when
+        BatchValidationResult result = batchValidationService.validate(forms, "item");
+
+        //then
+        assertThat(result.getTotal()).isEqualTo(total);
+        assertThat(result.getFailures()).extracting(BatchValidationResult.IndexedErrors::getIndex)
+                .startsWith(0, 1, 1000, 2000)
+                .isSorted()
+                .hasSize(total / 1000 + 2);
+        assertThat(result.errorsAt(0)).extracting(BatchError::getField, BatchError::getCode)
+                .containsExactly(tuple("itemName", "NotBlank"));
+        assertThat(result.errorsAt(1)).extracting(BatchError::getField, BatchError::getCode)
+                .containsExactly(tuple(null, "totalPriceMin"));
+        assertThat(result.errorsAt(2)).isEmpty();
+    }
+
+    @Test
+    void validateWithItemValidator() {
+        //given
+        List<Item> items = List.of(new Item("itemA", 10000, 10), new Item("", 100, 10000));
+
+        //when
+        BatchValidationResult result = batchValidationService.validateWith(items, "item", new ItemValidator(compositeRuleValidator, validationRules));
+
+        //then
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.errorsAt(1)).extracting(BatchError::getCode)
+                .containsExactly("required", "range", "max");
+    }
+
+    @Test
+    void resolvableMessage() {
+        //given
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("messages", "errors");
+        messageSource.setDefaultEncoding("UTF-8");
+        List<Item> items = List.of(new Item("itemA", 100, 10));
+
+        //when
+        BatchValidationResult result = batchValidationService.validateWith(items, "item", new ItemValidator(compositeRuleValidator, validationRules));
+        BatchError error = result.errorsAt(0).get(0);
+        String message = messageSource.getMessage(
+                error.resolvable("item", Item.class, new DefaultMessageCodesResolver()), Locale.KOREAN);
+
+        //then - BindingResult 와 같은 코드 목록 (range.item.price 가 가장 먼저)
+        assertThat(message).isEqualTo("가격은 1,000 ~ 1,000,000 까지 허용합니다.");
+    }
+
+    private ItemSaveForm form(String itemName, Integer price, Integer quantity) {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(itemName);
+        form.setPrice(price);
+        form.setQuantity(quantity);
+        return form;
+    }
+}
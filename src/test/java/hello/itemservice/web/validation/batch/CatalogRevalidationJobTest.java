@@ -0,0 +1,123 @@
+package hello.itemservice.web.validation.batch;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.rule.CompositeRuleValidator;
+import hello.itemservice.domain.rule.FieldRuleValidatorFactoryBean;
+import hello.itemservice.web.validation.plan.PlannedValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CatalogRevalidationJobTest {
+
+    LocalValidatorFactoryBean validatorFactory = new FieldRuleValidatorFactoryBean();
+    ItemRepository itemRepository = new ItemRepository();
+    BatchValidationService batchValidationService;
+    CatalogRevalidationJob job;
+
+    @BeforeEach
+    void beforeEach() {
+        validatorFactory.afterPropertiesSet();
+        batchValidationService = new BatchValidationService(new PlannedValidator(validatorFactory), new CompositeRuleValidator(), 2);
+    }
+
+    @AfterEach
+    void afterEach() {
+        job.shutdown();
+        batchValidationService.shutdown();
+        validatorFactory.close();
+    }
+
+    @Test
+    void revalidateCatalog() throws InterruptedException {
+        //given - 수량 최대 9999, 가격 1000 ~ 1000000 을 어기는 상품
+        job = new CatalogRevalidationJob(itemRepository, batchValidationService, 100, 1.0, 1000);
+        List<Long> invalidIds = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Item item = itemRepository.save(new Item("item" + i, 10000, i % 100 == 0 ? 10000 : 10));
+            if (i % 100 == 0) {
+                invalidIds.add(item.getId());
+            }
+        }
+        invalidIds.add(itemRepository.save(new Item("cheap", 500, 100)).getId());
+
+        //when
+        job.start(null);
+        RevalidationStatus status = awaitFinished();
+
+        //then
+        assertThat(status.getState()).isEqualTo(CatalogRevalidationJob.State.COMPLETED);
+        assertThat(status.getScanned()).isEqualTo(1001);
+        assertThat(status.getViolations()).isEqualTo(invalidIds.size());
+        List<CatalogRevalidationJob.Violation> violations = job.violations(0, 100);
+        assertThat(violations).extracting(CatalogRevalidationJob.Violation::getItemId).containsExactlyElementsOf(invalidIds);
+        assertThat(violations.get(0).getErrors()).extracting(BatchError::getField, BatchError::getCode)
+                .containsExactly(tuple("quantity", "max"));
+        assertThat(job.violations(5, 2)).extracting(CatalogRevalidationJob.Violation::getItemId)
+                .containsExactly(invalidIds.get(5), invalidIds.get(6));
+    }
+
+    @Test
+    void pauseAndResume() throws InterruptedException {
+        //given - 검증 시간의 99배를 쉬므로 pause 할 때까지 끝나지 않음
+        job = new CatalogRevalidationJob(itemRepository, batchValidationService, 10, 0.01, 1000);
+        for (int i = 0; i < 10000; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+        job.start(null);
+        while (job.status().getScanned() == 0) {
+            Thread.sleep(1);
+        }
+
+        //when
+        job.pause();
+        RevalidationStatus paused = awaitFinished();
+        job.resume();
+
+        //then
+        assertThat(paused.getState()).isEqualTo(CatalogRevalidationJob.State.PAUSED);
+        assertThat(paused.getScanned()).isLessThan(10000);
+        assertThat(paused.getCursor()).isEqualTo(paused.getScanned()); // id 는 1 부터 순서대로
+        assertThat(job.status().getState()).isEqualTo(CatalogRevalidationJob.State.RUNNING);
+    }
+
+    @Test
+    void resumeBeforePaused() throws InterruptedException {
+        //given - 묶음마다 검증한 만큼 쉬므로 대부분 묶음 사이에서 pause, resume 이 들어옴
+        job = new CatalogRevalidationJob(itemRepository, batchValidationService, 10, 0.5, 1000);
+        for (int i = 0; i < 1000; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+        job.start(null);
+        while (job.status().getScanned() == 0) {
+            Thread.sleep(1);
+        }
+
+        //when - 멈추기 전에 바로 재개
+        job.pause();
+        job.resume();
+        RevalidationStatus status = awaitFinished();
+
+        //then - 재개 요청을 잃지 않고 끝까지 검사
+        assertThat(status.getState()).isEqualTo(CatalogRevalidationJob.State.COMPLETED);
+        assertThat(status.getScanned()).isEqualTo(1000);
+    }
+
+    private RevalidationStatus awaitFinished() throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            RevalidationStatus status = job.status();
+            if (status.getState() != CatalogRevalidationJob.State.RUNNING) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("revalidation did not finish");
+    }
+}
@@ -0,0 +1,132 @@
+package hello.itemservice.web.validation.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.rule.CompositeRuleValidator;
+import hello.itemservice.domain.rule.FieldRuleValidatorFactoryBean;
+import hello.itemservice.web.validation.batch.BatchValidationService;
+import hello.itemservice.web.validation.metrics.ValidationMetrics;
+import hello.itemservice.web.validation.plan.PlannedValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemBulkImporterTest {
+
+    LocalValidatorFactoryBean validatorFactory = new FieldRuleValidatorFactoryBean();
+    ItemRepository itemRepository = new ItemRepository();
+    BatchValidationService batchValidationService;
+    ItemBulkImporter importer;
+
+    @BeforeEach
+    void beforeEach() {
+        validatorFactory.afterPropertiesSet();
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("messages", "errors");
+        messageSource.setDefaultEncoding("UTF-8");
+        batchValidationService = new BatchValidationService(new PlannedValidator(validatorFactory), new CompositeRuleValidator(), 0);
+        importer = new ItemBulkImporter(new ObjectMapper(), batchValidationService, itemRepository,
+                messageSource, new ValidationMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+        batchValidationService.shutdown();
+        validatorFactory.close();
+    }
+
+    @Test
+    void importJsonArray() throws IOException {
+        //given
+        String body = "[" +
+                "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}," +
+                "{\"itemName\":\" \",\"price\":10000,\"quantity\":10}," +
+                "{\"itemName\":\"itemC\",\"price\":1000,\"quantity\":1}" +
+                "]";
+
+        //when
+        BulkImportResult result = importer.importItems(stream(body), Locale.KOREAN);
+
+        //then
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getSaved()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(BulkItemError::getIndex).containsExactly(1, 2);
+        assertThat(result.getErrors()).extracting(BulkItemError::getCode).containsExactly("NotBlank", "totalPriceMin");
+        assertThat(itemRepository.findAll()).extracting("itemName").containsExactly("itemA");
+    }
+
+    @Test
+    void importNdjson() throws IOException {
+        //given
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < ItemBulkImporter.BATCH_SIZE + 10; i++) {
+            body.append("{\"itemName\":\"item").append(i).append("\",\"price\":10000,\"quantity\":10}\n");
+        }
+
+        //when
+        BulkImportResult result = importer.importItems(stream(body.toString()), Locale.KOREAN);
+
+        //then
+        assertThat(result.getSaved()).isEqualTo(ItemBulkImporter.BATCH_SIZE + 10);
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(itemRepository.findAll()).hasSize(ItemBulkImporter.BATCH_SIZE + 10);
+    }
+
+    @Test
+    void typeMismatch() throws IOException {
+        //given
+        String body = "{\"itemName\":\"itemA\",\"price\":\"abc\",\"quantity\":10}\n" +
+                "{\"itemName\":\"itemB\",\"price\":10000,\"quantity\":10}\n";
+
+        //when
+        BulkImportResult result = importer.importItems(stream(body), Locale.KOREAN);
+
+        //then
+        assertThat(result.getSaved()).isEqualTo(1);
+        assertThat(result.getErrors()).hasSize(1);
+        BulkItemError error = result.getErrors().get(0);
+        assertThat(error.getIndex()).isEqualTo(0);
+        assertThat(error.getField()).isEqualTo("price");
+        assertThat(error.getCode()).isEqualTo("typeMismatch");
+    }
+
+    @Test
+    void importStream() throws IOException {
+        //given
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < ItemBulkImporter.STREAM_BATCH_SIZE + 1; i++) {
+            body.append("{\"itemName\":\"item").append(i).append("\",\"price\":10000,\"quantity\":10}\n");
+        }
+        body.append("{\"itemName\":\"\",\"price\":10000,\"quantity\":10}\n");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        BulkImportResult result = importer.importStream(stream(body.toString()), out, Locale.KOREAN);
+
+        //then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        int total = ItemBulkImporter.STREAM_BATCH_SIZE + 2;
+        assertThat(lines).hasSize(total + 1); // 상품별 결과 + 요약
+        assertThat(lines[0]).isEqualTo("{\"index\":0,\"id\":1}");
+        assertThat(lines[total - 1]).startsWith("{\"index\":" + (total - 1) + ",\"errors\":[{\"field\":\"itemName\",\"code\":\"NotBlank\"");
+        assertThat(lines[total]).isEqualTo("{\"total\":" + total + ",\"saved\":" + (total - 1) + ",\"failed\":1}");
+        assertThat(result.getSaved()).isEqualTo(total - 1);
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
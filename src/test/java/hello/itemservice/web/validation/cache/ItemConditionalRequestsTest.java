@@ -0,0 +1,85 @@
+package hello.itemservice.web.validation.cache;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemConditionalRequestsTest {
+
+    ItemRepository itemRepository = new ItemRepository();
+    ItemConditionalRequests conditionalRequests = new ItemConditionalRequests(itemRepository);
+
+    @Test
+    void itemNotModified() {
+        //given
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        conditionalRequests.checkItemNotModified(item, Locale.KOREAN, new ServletWebRequest(get(null), first));
+        String etag = first.getHeader("ETag");
+
+        //when
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        boolean notModified = conditionalRequests.checkItemNotModified(item, Locale.KOREAN, new ServletWebRequest(get(etag), second));
+
+        //then
+        assertThat(etag).isNotNull();
+        assertThat(notModified).isTrue();
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getHeader("Vary")).isEqualTo("Accept-Language");
+    }
+
+    @Test
+    void itemModified() {
+        //given
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        conditionalRequests.checkItemNotModified(item, Locale.KOREAN, new ServletWebRequest(get(null), first));
+        String etag = first.getHeader("ETag");
+
+        //when
+        itemRepository.update(item.getId(), new Item("itemB", 20000, 20));
+        Item updatedItem = itemRepository.findById(item.getId());
+        boolean notModified = conditionalRequests.checkItemNotModified(updatedItem, Locale.KOREAN,
+                new ServletWebRequest(get(etag), new MockHttpServletResponse()));
+
+        //then
+        assertThat(notModified).isFalse();
+    }
+
+    @Test
+    void itemsDependOnCatalogAndLocale() {
+        //given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        conditionalRequests.checkItemsNotModified(Locale.KOREAN, new ServletWebRequest(get(null), first));
+        String etag = first.getHeader("ETag");
+
+        //when
+        boolean sameLocale = conditionalRequests.checkItemsNotModified(Locale.KOREAN,
+                new ServletWebRequest(get(etag), new MockHttpServletResponse()));
+        boolean otherLocale = conditionalRequests.checkItemsNotModified(Locale.ENGLISH,
+                new ServletWebRequest(get(etag), new MockHttpServletResponse()));
+        itemRepository.save(new Item("itemA", 10000, 10));
+        boolean afterSave = conditionalRequests.checkItemsNotModified(Locale.KOREAN,
+                new ServletWebRequest(get(etag), new MockHttpServletResponse()));
+
+        //then
+        assertThat(sameLocale).isTrue();
+        assertThat(otherLocale).isFalse();
+        assertThat(afterSave).isFalse();
+    }
+
+    private MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/validation/v4/items");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,77 @@
+package hello.itemservice.web.validation.cache;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemRowCacheTest {
+
+    ItemRepository itemRepository = new ItemRepository();
+    ItemRowCache itemRowCache;
+
+    @BeforeEach
+    void beforeEach() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        itemRowCache = new ItemRowCache(templateEngine, "/validation/v4/items", 100);
+        itemRepository.addListener(itemRowCache);
+    }
+
+    @Test
+    void renderRow() {
+        //given
+        Item item = itemRepository.save(new Item("<b>itemA</b>", 10000, 10));
+
+        //when
+        String html = itemRowCache.render(List.of(item), Locale.KOREAN);
+
+        //then
+        assertThat(html).contains("href=\"/validation/v4/items/" + item.getId() + "\"");
+        assertThat(html).contains("&lt;b&gt;itemA&lt;/b&gt;"); // 상품명은 이스케이프
+        assertThat(html).contains("<td>10000</td>");
+    }
+
+    @Test
+    void cacheByVersionAndLocale() {
+        //given
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        itemRowCache.render(List.of(item), Locale.KOREAN);
+
+        //when
+        itemRowCache.render(List.of(item), Locale.KOREAN);
+        itemRowCache.render(List.of(item), Locale.ENGLISH);
+
+        //then
+        assertThat(itemRowCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void evictOnUpdate() {
+        //given
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        itemRowCache.render(List.of(item), Locale.KOREAN);
+
+        //when
+        itemRepository.update(item.getId(), new Item("itemB", 20000, 20));
+
+        //then
+        assertThat(itemRowCache.size()).isZero();
+        String html = itemRowCache.render(List.of(itemRepository.findById(item.getId())), Locale.KOREAN);
+        assertThat(html).contains("itemB").doesNotContain("itemA");
+    }
+}
@@ -0,0 +1,135 @@
+package hello.itemservice.web.validation.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemJsonWriterTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    ItemRepository itemRepository = new ItemRepository();
+    ItemJsonWriter itemJsonWriter = new ItemJsonWriter(objectMapper, itemRepository);
+
+    @Test
+    void writeItem() throws IOException {
+        //given
+        Item item = itemRepository.save(new Item("itemA", 10000, null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        itemJsonWriter.writeItem(item, out);
+
+        //then
+        JsonNode json = objectMapper.readTree(out.toByteArray());
+        assertThat(json.get("id").asLong()).isEqualTo(item.getId());
+        assertThat(json.get("itemName").asText()).isEqualTo("itemA");
+        assertThat(json.get("price").asInt()).isEqualTo(10000);
+        assertThat(json.get("quantity").isNull()).isTrue();
+        assertThat(json.get("version").asLong()).isEqualTo(0L);
+    }
+
+    @Test
+    void writePage() throws IOException {
+        //given
+        for (int i = 0; i < 3; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        itemJsonWriter.writePage(itemRepository.findAfter(null, 2), out);
+
+        //then
+        JsonNode json = objectMapper.readTree(out.toByteArray());
+        assertThat(json.get("items")).hasSize(2);
+        assertThat(json.get("size").asInt()).isEqualTo(2);
+        assertThat(json.get("nextCursor").asLong()).isEqualTo(json.get("items").get(1).get("id").asLong());
+    }
+
+    @Test
+    void exportNdjson() throws IOException {
+        //given
+        for (int i = 0; i < ItemRepository.MAX_PAGE_SIZE + 5; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        long count = itemJsonWriter.export(out);
+
+        //then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(ItemRepository.MAX_PAGE_SIZE + 5);
+        assertThat(lines).hasSize(ItemRepository.MAX_PAGE_SIZE + 5);
+        assertThat(objectMapper.readTree(lines[lines.length - 1]).get("itemName").asText())
+                .isEqualTo("item" + (ItemRepository.MAX_PAGE_SIZE + 4));
+    }
+
+    @Test
+    void exportGzip() throws IOException {
+        //given
+        itemRepository.save(new Item("itemA", 10000, 10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/validation/api/items/export");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        try (OutputStream out = ResponseEncoding.open(request, response)) {
+            itemJsonWriter.export(out);
+        }
+
+        //then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        byte[] body = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray())).readAllBytes();
+        assertThat(objectMapper.readTree(body).get("itemName").asText()).isEqualTo("itemA");
+    }
+
+    @Test
+    void negotiate() {
+        assertThat(ResponseEncoding.negotiate(null)).isNull();
+        assertThat(ResponseEncoding.negotiate("identity")).isNull();
+        assertThat(ResponseEncoding.negotiate("gzip, deflate, br")).isEqualTo("gzip");
+        assertThat(ResponseEncoding.negotiate("gzip;q=0.5, deflate")).isEqualTo("gzip");
+        assertThat(ResponseEncoding.negotiate("*")).isEqualTo("gzip");
+        // deflate 는 gzip 을 받지 않는 클라이언트에만
+        assertThat(ResponseEncoding.negotiate("gzip;q=0, *")).isEqualTo("deflate");
+        assertThat(ResponseEncoding.negotiate("gzip;q=0, deflate")).isEqualTo("deflate");
+        assertThat(ResponseEncoding.negotiate("deflate")).isEqualTo("deflate");
+        assertThat(ResponseEncoding.negotiate("gzip;q=0, deflate;q=0")).isNull();
+    }
+
+    @Test
+    void exportDeflateOnly() throws IOException {
+        //given
+        itemRepository.save(new Item("itemA", 10000, 10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/validation/api/items/export");
+        request.addHeader("Accept-Encoding", "deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        try (OutputStream out = ResponseEncoding.open(request, response)) {
+            itemJsonWriter.export(out);
+        }
+
+        //then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("deflate");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        byte[] body = new InflaterInputStream(new ByteArrayInputStream(response.getContentAsByteArray())).readAllBytes();
+        assertThat(objectMapper.readTree(body).get("itemName").asText()).isEqualTo("itemA");
+    }
+}
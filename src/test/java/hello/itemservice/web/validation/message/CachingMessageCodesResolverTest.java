@@ -0,0 +1,46 @@
+package hello.itemservice.web.validation.message;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.DefaultMessageCodesResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingMessageCodesResolverTest {
+
+    CachingMessageCodesResolver codesResolver = new CachingMessageCodesResolver(new DefaultMessageCodesResolver(), 2);
+
+    @Test
+    void messageCodesResolverObject() {
+        String[] messageCodes = codesResolver.resolveMessageCodes("required", "item");
+        assertThat(messageCodes).containsExactly("required.item", "required");
+        assertThat(codesResolver.resolveMessageCodes("required", "item")).isSameAs(messageCodes);
+    }
+
+    @Test
+    void messageCodesResolverField() {
+        String[] messageCodes = codesResolver.resolveMessageCodes("required", "item", "itemName", String.class);
+        assertThat(messageCodes).containsExactly(
+                "required.item.itemName", "required.itemName", "required.java.lang.String", "required");
+        assertThat(codesResolver.resolveMessageCodes("required", "item", "itemName", String.class)).isSameAs(messageCodes);
+    }
+
+    @Test
+    void fieldTypeIsPartOfKey() {
+        String[] typed = codesResolver.resolveMessageCodes("range", "item", "price", Integer.class);
+        String[] untyped = codesResolver.resolveMessageCodes("range", "item", "price", null);
+        assertThat(typed).containsExactly("range.item.price", "range.price", "range.java.lang.Integer", "range");
+        assertThat(untyped).containsExactly("range.item.price", "range.price", "range");
+    }
+
+    @Test
+    void maxEntries() {
+        codesResolver.resolveMessageCodes("required", "item", "field1", null);
+        codesResolver.resolveMessageCodes("required", "item", "field2", null);
+
+        // 최대 크기를 넘으면 캐시하지 않고 매번 새로 만듦
+        String[] messageCodes = codesResolver.resolveMessageCodes("required", "item", "field3", null);
+
+        assertThat(messageCodes).containsExactly("required.item.field3", "required.field3", "required");
+        assertThat(codesResolver.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,68 @@
+package hello.itemservice.web.validation.metrics;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationMetricsTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    ValidationMetrics metrics = new ValidationMetrics(registry);
+    LocalValidatorFactoryBean validatorFactory = new LocalValidatorFactoryBean();
+
+    @BeforeEach
+    void beforeEach() {
+        validatorFactory.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void afterEach() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void countErrors() {
+        //given
+        Item item = new Item("itemA", 10, 10);
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        bindingResult.rejectValue("price", "range", new Object[]{1000, 1000000}, null);
+        bindingResult.reject("totalPriceMin", new Object[]{10000, 100}, null);
+
+        //when
+        metrics.countErrors(bindingResult);
+        metrics.countErrors(bindingResult);
+
+        //then
+        assertThat(registry.get("itemservice.validation.errors")
+                .tag("field", "price").tag("code", "range.item.price").counter().count()).isEqualTo(2);
+        assertThat(registry.get("itemservice.validation.errors")
+                .tag("field", "global").tag("code", "totalPriceMin.item").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void validationTimer() {
+        //given
+        MeteredValidator validator = new MeteredValidator(validatorFactory, metrics);
+        ItemSaveForm form = new ItemSaveForm();
+        Item item = new Item();
+
+        //when
+        validator.validate(form, new BeanPropertyBindingResult(form, "item"));
+        validator.validate(item, new BeanPropertyBindingResult(item, "item"), SaveCheck.class);
+
+        //then
+        assertThat(registry.get("itemservice.validation")
+                .tag("form", "ItemSaveForm").tag("group", "Default").timer().count()).isEqualTo(1);
+        assertThat(registry.get("itemservice.validation")
+                .tag("form", "Item").tag("group", "SaveCheck").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,216 @@
+package hello.itemservice.web.validation.plan;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.domain.rule.FieldRuleValidatorFactoryBean;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import lombok.Data;
+import org.hibernate.validator.constraints.Range;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PlannedValidatorTest {
+
+    LocalValidatorFactoryBean validatorFactory = new FieldRuleValidatorFactoryBean();
+    PlannedValidator plannedValidator;
+
+    @BeforeEach
+    void beforeEach() {
+        validatorFactory.afterPropertiesSet();
+        plannedValidator = new PlannedValidator(validatorFactory);
+        LocaleContextHolder.setLocale(Locale.KOREAN);
+    }
+
+    @AfterEach
+    void afterEach() {
+        LocaleContextHolder.resetLocaleContext();
+        validatorFactory.close();
+    }
+
+    @Test
+    void compileForms() {
+        assertThat(plannedValidator.plan(ItemSaveForm.class)).isNotNull();
+        assertThat(plannedValidator.plan(ItemUpdateForm.class)).isNotNull();
+    }
+
+    @Test
+    void sameErrorsAsBeanValidation() {
+        //given - @Range, @Max 는 테스트용 폼으로 (상품 폼의 가격, 수량은 @FieldRule)
+        RangedForm form = new RangedForm();
+        form.setItemName(" ");
+        form.setPrice(10);
+        form.setQuantity(10000);
+
+        //when
+        BindingResult planned = new BeanPropertyBindingResult(form, "item");
+        plannedValidator.validate(form, planned);
+        BindingResult beanValidation = new BeanPropertyBindingResult(form, "item");
+        validatorFactory.validate(form, beanValidation);
+
+        //then
+        assertThat(planned.getFieldErrorCount()).isEqualTo(3);
+        assertSameErrors(planned, beanValidation);
+    }
+
+    @Test
+    void sameErrorsAsBeanValidationNull() {
+        //given
+        ItemUpdateForm form = new ItemUpdateForm();
+
+        //when
+        BindingResult planned = new BeanPropertyBindingResult(form, "form");
+        plannedValidator.validate(form, planned);
+        BindingResult beanValidation = new BeanPropertyBindingResult(form, "form");
+        validatorFactory.validate(form, beanValidation);
+
+        //then
+        assertThat(planned.getFieldErrorCount()).isEqualTo(4);
+        assertSameErrors(planned, beanValidation);
+    }
+
+    @Test
+    void sameErrorsAsBeanValidationFieldRule() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(100);
+        form.setQuantity(10000);
+
+        //when
+        BindingResult planned = new BeanPropertyBindingResult(form, "item");
+        plannedValidator.validate(form, planned);
+        BindingResult beanValidation = new BeanPropertyBindingResult(form, "item");
+        validatorFactory.validate(form, beanValidation);
+
+        //then - 오류 코드, 인자 모두 규칙 표에서
+        assertThat(planned.getFieldErrors()).extracting(FieldError::getField, FieldError::getCode)
+                .containsExactly(tuple("price", "range"), tuple("quantity", "max"));
+        assertThat(planned.getFieldError("price").getArguments()).containsExactly(1000L, 1000000L);
+        assertSameErrors(planned, beanValidation);
+    }
+
+    @Test
+    void valid() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(10000);
+        form.setQuantity(10);
+
+        //when
+        BindingResult planned = new BeanPropertyBindingResult(form, "item");
+        plannedValidator.validate(form, planned);
+
+        //then
+        assertThat(planned.hasErrors()).isFalse();
+    }
+
+    @Test
+    void failFast() {
+        //given
+        RangedForm form = new RangedForm();
+        form.setItemName(" ");
+        form.setPrice(10);
+        form.setQuantity(10000);
+
+        //when
+        BindingResult planned = new BeanPropertyBindingResult(form, "item");
+        plannedValidator.validateFailFast(form, planned);
+
+        //then - 첫 번째 필드의 오류 하나만
+        assertThat(planned.getErrorCount()).isEqualTo(1);
+        assertThat(planned.getFieldError().getField()).isEqualTo("itemName");
+    }
+
+    @Test
+    void failFastGroupsUseHibernateFailFast() {
+        //given
+        GroupedForm form = new GroupedForm();
+
+        //when
+        BindingResult all = new BeanPropertyBindingResult(form, "form");
+        plannedValidator.validate(form, all, SaveCheck.class);
+        BindingResult failFast = new BeanPropertyBindingResult(form, "form");
+        plannedValidator.validateFailFast(form, failFast, SaveCheck.class);
+
+        //then
+        assertThat(all.getErrorCount()).isEqualTo(2);
+        assertThat(failFast.getErrorCount()).isEqualTo(1);
+    }
+
+    @Test
+    void groupsUseBeanValidation() {
+        //given
+        Item item = new Item();
+
+        //when
+        BindingResult planned = new BeanPropertyBindingResult(item, "item");
+        plannedValidator.validate(item, planned, SaveCheck.class);
+        BindingResult beanValidation = new BeanPropertyBindingResult(item, "item");
+        validatorFactory.validate(item, beanValidation, SaveCheck.class);
+
+        //then
+        assertSameErrors(planned, beanValidation);
+    }
+
+    private void assertSameErrors(BindingResult planned, BindingResult beanValidation) {
+        assertThat(describe(planned.getFieldErrors())).isEqualTo(describe(beanValidation.getFieldErrors()));
+    }
+
+    private List<String> describe(List<FieldError> errors) {
+        return errors.stream()
+                .sorted(Comparator.comparing(FieldError::getField).thenComparing(FieldError::getCode))
+                .map(error -> error.getField() + " " + error.getRejectedValue() + " " + String.join(",", error.getCodes())
+                        + " " + describeArguments(error.getArguments()) + " " + error.getDefaultMessage())
+                .collect(Collectors.toList());
+    }
+
+    private String describeArguments(Object[] arguments) {
+        StringBuilder sb = new StringBuilder();
+        for (Object argument : arguments) {
+            sb.append(argument instanceof MessageSourceResolvable
+                    ? String.join("|", ((MessageSourceResolvable) argument).getCodes())
+                    : String.valueOf(argument)).append(';');
+        }
+        return sb.toString();
+    }
+
+    @Data
+    static class RangedForm {
+        @NotBlank
+        private String itemName;
+        @NotNull
+        @Range(min = 1000, max = 1000000)
+        private Integer price;
+        @NotNull
+        @Max(value = 9999)
+        private Integer quantity;
+    }
+
+    @Data
+    static class GroupedForm {
+        @NotBlank(groups = SaveCheck.class)
+        private String itemName;
+        @NotNull(groups = SaveCheck.class)
+        private Integer price;
+    }
+}